@@ -0,0 +1,138 @@
+package com.func.functional.biz.chart.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.func.functional.biz.chart.model.ChartSeries;
+import com.func.functional.configs.properties.ChartConfigProperties;
+import com.func.functional.utils.BusinessCalendar;
+import com.func.functional.utils.DateUtils;
+
+/**
+ * 차트 생성 경로의 처리량과 연산당 할당량을 측정하는 벤치마크입니다.
+ *
+ * <p>
+ * 공휴일 API는 고정된 응답을 반환하는 {@link StubApiClient}로 대체하며, 캐시가 채워진 상태에서 영업일 계산, 수익률 생성 및
+ * JSON/NDJSON 출력까지를 기간 길이(1개월 ~ 30년)별로 측정합니다. 실행: {@code ./gradlew jmh}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChartBenchmark {
+
+    /** 종료 날짜 (고정) */
+    private static final LocalDate TO_DATE = LocalDate.of(2024, 12, 31);
+
+    /** 난수 시드 (고정) */
+    private static final long SEED = 20241231L;
+
+    /** 화면 해상도 기준 최대 데이터 수 */
+    private static final int MAX_POINTS = 600;
+
+    /** 기간 길이 (ISO-8601 Period) */
+    @Param({ "P1M", "P6M", "P1Y", "P5Y", "P10Y", "P30Y" })
+    private String range;
+
+    /** ObjectMapper */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HolidayService holidayService;
+    private ChartService chartService;
+
+    private String fromDate;
+    private String toDate;
+    private int fromEpochDay;
+    private int toEpochDay;
+    private BusinessCalendar calendar;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        holidayService = StubApiClient.holidayService();
+        chartService = new ChartService(holidayService, new ChartConfigProperties());
+        chartService.initialize();
+
+        LocalDate from = TO_DATE.minus(Period.parse(range));
+        fromDate = from.format(DateTimeFormatter.BASIC_ISO_DATE);
+        toDate = TO_DATE.format(DateTimeFormatter.BASIC_ISO_DATE);
+        fromEpochDay = DateUtils.toEpochDay(fromDate);
+        toEpochDay = DateUtils.toEpochDay(toDate);
+
+        // 공휴일 캐시를 미리 채움 (측정 대상은 캐시 적중 경로)
+        calendar = holidayService.getBusinessCalendar(from.getYear(), TO_DATE.getYear());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        chartService.shutdown();
+    }
+
+    /**
+     * 영업일 달력 구성 및 영업일 수 계산
+     */
+    @Benchmark
+    public int businessDays() {
+        BusinessCalendar businessCalendar = holidayService.getBusinessCalendar(DateUtils.toDateInt(fromEpochDay) / 10000,
+                DateUtils.toDateInt(toEpochDay) / 10000);
+        return businessCalendar.businessDaysBetween(fromEpochDay, toEpochDay);
+    }
+
+    /**
+     * 구성된 영업일 달력으로 수익률 데이터만 생성
+     */
+    @Benchmark
+    public ChartSeries generate() {
+        ChartSeries series = new ChartSeries(ChartGenerator.pointCount(fromEpochDay, toEpochDay, calendar));
+        ChartGenerator.generate(fromEpochDay, toEpochDay, calendar, new SplittableRandom(SEED), series);
+        return series;
+    }
+
+    /**
+     * 영업일 계산부터 수익률 생성까지 (GET /random/chart 의 서비스 구간)
+     */
+    @Benchmark
+    public ChartSeries randomChart() {
+        return chartService.randomChart(fromDate, toDate, SEED, null);
+    }
+
+    /**
+     * 수익률 생성 후 JSON 배열로 직렬화
+     */
+    @Benchmark
+    public void randomChartJson() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), chartService.randomChart(fromDate, toDate, SEED, null));
+    }
+
+    /**
+     * 수익률 생성 후 LTTB 방식으로 축소하여 JSON 배열로 직렬화
+     */
+    @Benchmark
+    public void randomChartJsonDownsampled() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), chartService.randomChart(fromDate, toDate, SEED, MAX_POINTS));
+    }
+
+    /**
+     * 수익률을 생성하면서 NDJSON으로 바로 출력
+     */
+    @Benchmark
+    public void randomChartNdjson() throws IOException {
+        chartService.streamRandomChart(fromDate, toDate, SEED, null, OutputStream.nullOutputStream());
+    }
+}
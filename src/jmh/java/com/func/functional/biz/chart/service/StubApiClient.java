@@ -0,0 +1,66 @@
+package com.func.functional.biz.chart.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+
+import com.func.functional.biz.chart.codec.HolidayResponseDecoder;
+import com.func.functional.biz.client.ApiClient;
+import com.func.functional.configs.properties.ApiServerConfigProperties;
+import com.func.functional.configs.properties.HolidayConfigProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 연도마다 고정된 공휴일 응답을 반환하는 ApiClient (벤치마크용)
+ */
+class StubApiClient extends ApiClient {
+
+    /** 공휴일 API 응답 Decoder */
+    private static final HolidayResponseDecoder DECODER = new HolidayResponseDecoder();
+
+    /** 매년 같은 날짜의 공휴일 (MMdd) */
+    private static final int[] HOLIDAYS = { 101, 301, 505, 606, 815, 1003, 1009, 1225 };
+
+    StubApiClient(ApiServerConfigProperties apiServerConfigProperties) {
+        super(null, apiServerConfigProperties, null);
+    }
+
+    /**
+     * 이 ApiClient를 사용하는 HolidayService를 생성합니다.
+     *
+     * @return HolidayService
+     */
+    static HolidayService holidayService() {
+        ApiServerConfigProperties.ApiServer server = new ApiServerConfigProperties.ApiServer();
+        server.setName("holidayInfo");
+        server.setKey("benchmark");
+        ApiServerConfigProperties apiServerConfigProperties = new ApiServerConfigProperties();
+        apiServerConfigProperties.setServers(List.of(server));
+
+        return new HolidayService(new StubApiClient(apiServerConfigProperties), apiServerConfigProperties, new HolidayConfigProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Override
+    public <T> Mono<T> getAsync(String apiEndpoint, Object queryParameters, Class<T> responseType) {
+        String year = String.valueOf(((Map<?, ?>) queryParameters).get("solYear"));
+
+        StringBuilder json = new StringBuilder("{\"response\":{\"body\":{\"items\":{\"item\":[");
+        for (int i = 0; i < HOLIDAYS.length; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"locdate\":").append(year).append(String.format("%04d", HOLIDAYS[i])).append('}');
+        }
+        json.append("]}}}}");
+
+        // 실제 호출과 같이 응답 본문을 Decoder로 변환
+        DataBuffer body = DefaultDataBufferFactory.sharedInstance.wrap(json.toString().getBytes(StandardCharsets.UTF_8));
+        return DECODER.decodeToMono(Flux.just(body), ResolvableType.forClass(responseType), MediaType.APPLICATION_JSON, Map.of()).map(responseType::cast);
+    }
+}
@@ -0,0 +1,101 @@
+package com.func.functional.biz.chart.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.func.functional.configs.properties.ChartConfigProperties;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 동시 요청이 많을 때 플랫폼 스레드 풀과 가상 스레드의 처리량을 비교하는 벤치마크입니다.
+ *
+ * <p>
+ * 요청마다 외부 API 응답을 기다리는 블로킹 호출({@code Mono.block()})을 한 번 수행한 후 1년 기간의 차트를 생성합니다.
+ * 플랫폼 스레드 풀은 Tomcat의 기본 최대 스레드 수(200)와 같은 크기를 사용합니다. 실행: {@code ./gradlew jmh}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThreadModelBenchmark {
+
+    /** 동시 요청 수 */
+    private static final int CONCURRENCY = 2000;
+
+    /** Tomcat 기본 최대 스레드 수 */
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    /** 스레드 모델 */
+    @Param({ "platform", "virtual" })
+    private String threadModel;
+
+    /** 외부 API 응답 지연 시간 (ms) */
+    @Param({ "20", "100" })
+    private long latencyMillis;
+
+    private ExecutorService executor;
+    private ChartService chartService;
+    private List<Callable<Integer>> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threadModel) ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+
+        HolidayService holidayService = StubApiClient.holidayService();
+        chartService = new ChartService(holidayService, new ChartConfigProperties());
+        chartService.initialize();
+
+        // 공휴일 캐시를 미리 채움
+        chartService.randomChart("20240101", "20241231", 1L, null);
+
+        Duration latency = Duration.ofMillis(latencyMillis);
+        requests = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            long seed = i;
+            requests.add(() -> {
+                // 외부 API 호출 대기 (HttpClient.request(...).block()과 같은 블로킹)
+                Mono.delay(latency).block();
+                return chartService.randomChart("20240101", "20241231", seed, null).size();
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        chartService.shutdown();
+    }
+
+    /**
+     * 동시 요청을 모두 처리 (결과 단위: 요청/초)
+     */
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public int requests() throws InterruptedException, ExecutionException {
+        int points = 0;
+        for (Future<Integer> future : executor.invokeAll(requests)) {
+            points += future.get();
+        }
+        return points;
+    }
+}
@@ -0,0 +1,356 @@
+package com.func.functional.biz.chart.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+import com.func.functional.biz.chart.model.ChartBatchOut;
+import com.func.functional.biz.chart.model.ChartSeries;
+import com.func.functional.biz.chart.model.ChartSeriesOut;
+
+/**
+ * 차트 데이터를 압축된 바이너리 형식으로 변환하는 인코더/디코더입니다.
+ *
+ * <p>
+ * 모든 정수는 LEB128 가변 길이 정수(varint)로 기록하며, 부호가 있는 값은 ZigZag 인코딩을 적용합니다.
+ * </p>
+ *
+ * <pre>
+ * series  := 0x01 body
+ * batch   := 0x02 count(varint) { id body }*
+ * body    := scale(1 byte) count(varint) startEpochDay(zigzag varint) { dayDelta(varint) value(zigzag varint) }*
+ * id      := 0x00 (null) | (length + 1)(varint) UTF-8 bytes
+ * </pre>
+ *
+ * <p>
+ * 날짜는 이전 데이터와의 일수 차이(첫 데이터는 시작일과의 차이)로, 수익률은 소수점 2자리로 스케일된 정수로 기록하므로 데이터당 보통
+ * 3 ~ 4 바이트를 사용합니다.
+ * </p>
+ */
+public final class ChartBinaryCodec {
+
+    /**
+     * 객체를 생성할 수 없게 하기 위한 private 생성자
+     */
+    private ChartBinaryCodec() {
+        throw new IllegalStateException(this.getClass().getPackageName() + "." + this.getClass().getSimpleName());
+    }
+
+    /** 차트 바이너리 형식 MediaType 문자열 */
+    public static final String MEDIA_TYPE_VALUE = "application/x-chart-binary";
+
+    /** 차트 바이너리 형식 MediaType */
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    /** 단일 차트 프레임 */
+    private static final int TYPE_SERIES = 0x01;
+
+    /** 여러 차트 프레임 */
+    private static final int TYPE_BATCH = 0x02;
+
+    /** 출력 버퍼 크기 */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** 읽을 수 있는 최대 차트 수 (여러 차트 프레임) */
+    private static final int MAX_SERIES = 1024;
+
+    /** 읽을 수 있는 차트당 최대 데이터 수 (약 180년의 일별 데이터) */
+    private static final int MAX_POINTS = 1 << 16;
+
+    /** 읽을 수 있는 식별자의 최대 길이 (UTF-8 바이트) */
+    private static final int MAX_ID_LENGTH = 1024;
+
+    /** 입력된 차트 수로 미리 할당할 최대 크기 (실제 데이터를 읽으면서 늘어남) */
+    private static final int MAX_INITIAL_SERIES = 16;
+
+    /** 입력된 데이터 수로 미리 할당할 최대 크기 (실제 데이터를 읽으면서 늘어남) */
+    private static final int MAX_INITIAL_POINTS = 1024;
+
+    /**
+     * 단일 차트를 바이너리 형식으로 출력합니다.
+     *
+     * @param series       차트 데이터
+     * @param outputStream 출력 대상 스트림 (닫지 않음)
+     * @throws IOException 출력 중 발생할 수 있는 예외
+     */
+    public static void encode(ChartSeries series, OutputStream outputStream) throws IOException {
+        VarintWriter writer = new VarintWriter(outputStream);
+        writer.writeByte(TYPE_SERIES);
+        writeBody(writer, series);
+        writer.flush();
+    }
+
+    /**
+     * 여러 차트를 바이너리 형식으로 출력합니다.
+     *
+     * @param batch        차트 목록
+     * @param outputStream 출력 대상 스트림 (닫지 않음)
+     * @throws IOException 출력 중 발생할 수 있는 예외
+     */
+    public static void encode(ChartBatchOut batch, OutputStream outputStream) throws IOException {
+        List<ChartSeriesOut> seriesList = batch.getSeries() == null ? List.of() : batch.getSeries();
+
+        VarintWriter writer = new VarintWriter(outputStream);
+        writer.writeByte(TYPE_BATCH);
+        writer.writeVarint(seriesList.size());
+        for (ChartSeriesOut seriesOut : seriesList) {
+            writeId(writer, seriesOut.getId());
+            writeBody(writer, seriesOut.getData() == null ? new ChartSeries(0) : seriesOut.getData());
+        }
+        writer.flush();
+    }
+
+    /**
+     * 단일 차트를 바이트 배열로 변환합니다.
+     *
+     * @param series 차트 데이터
+     * @return 바이너리 형식의 바이트 배열
+     */
+    public static byte[] encode(ChartSeries series) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(series.size() * 4 + 16);
+            encode(series, outputStream);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 바이너리 형식의 단일 차트를 읽습니다.
+     *
+     * @param bytes 바이너리 형식의 바이트 배열
+     * @return 차트 데이터
+     * @throws IOException 형식이 잘못된 경우 발생
+     */
+    public static ChartSeries decodeSeries(byte[] bytes) throws IOException {
+        return decodeSeries(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * 바이너리 형식의 단일 차트를 읽습니다.
+     *
+     * @param inputStream 입력 스트림
+     * @return 차트 데이터
+     * @throws IOException 형식이 잘못된 경우 발생
+     */
+    public static ChartSeries decodeSeries(InputStream inputStream) throws IOException {
+        int type = readByte(inputStream);
+        if (type != TYPE_SERIES) {
+            throw new IOException("Unexpected chart frame type: " + type);
+        }
+        return readBody(inputStream);
+    }
+
+    /**
+     * 바이너리 형식의 여러 차트를 읽습니다.
+     *
+     * @param inputStream 입력 스트림
+     * @return 차트 목록
+     * @throws IOException 형식이 잘못된 경우 발생
+     */
+    public static ChartBatchOut decodeBatch(InputStream inputStream) throws IOException {
+        int type = readByte(inputStream);
+        if (type != TYPE_BATCH) {
+            throw new IOException("Unexpected chart frame type: " + type);
+        }
+
+        int count = readLength(inputStream, MAX_SERIES, "series count");
+        List<ChartSeriesOut> seriesList = new ArrayList<>(Math.min(count, MAX_INITIAL_SERIES));
+        for (int i = 0; i < count; i++) {
+            ChartSeriesOut seriesOut = new ChartSeriesOut();
+            seriesOut.setId(readId(inputStream));
+            seriesOut.setData(readBody(inputStream));
+            seriesList.add(seriesOut);
+        }
+
+        ChartBatchOut batch = new ChartBatchOut();
+        batch.setSeries(seriesList);
+        return batch;
+    }
+
+    /**
+     * 차트 본문(스케일, 데이터 수, 시작일, 데이터)을 기록합니다.
+     */
+    private static void writeBody(VarintWriter writer, ChartSeries series) throws IOException {
+        int size = series.size();
+        int previousDay = size == 0 ? 0 : series.getEpochDay(0);
+
+        writer.writeByte(ChartSeries.SCALE);
+        writer.writeVarint(size);
+        writer.writeVarint(zigZag(previousDay));
+
+        for (int i = 0; i < size; i++) {
+            int epochDay = series.getEpochDay(i);
+            writer.writeVarint(epochDay - previousDay);
+            writer.writeVarint(zigZag(series.getValue(i)));
+            previousDay = epochDay;
+        }
+    }
+
+    /**
+     * 차트 본문을 읽습니다.
+     */
+    private static ChartSeries readBody(InputStream inputStream) throws IOException {
+        int scale = readByte(inputStream);
+        if (scale != ChartSeries.SCALE) {
+            throw new IOException("Unsupported chart scale: " + scale);
+        }
+
+        int size = readLength(inputStream, MAX_POINTS, "point count");
+        int epochDay = (int) unZigZag(readVarint(inputStream));
+
+        ChartSeries series = new ChartSeries(Math.min(size, MAX_INITIAL_POINTS));
+        for (int i = 0; i < size; i++) {
+            epochDay += (int) readVarint(inputStream);
+            series.accept(epochDay, unZigZag(readVarint(inputStream)));
+        }
+        return series;
+    }
+
+    /**
+     * 차트 식별자를 기록합니다.
+     */
+    private static void writeId(VarintWriter writer, String id) throws IOException {
+        if (id == null) {
+            writer.writeVarint(0);
+            return;
+        }
+
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        writer.writeVarint(bytes.length + 1L);
+        writer.writeBytes(bytes);
+    }
+
+    /**
+     * 차트 식별자를 읽습니다.
+     */
+    private static String readId(InputStream inputStream) throws IOException {
+        int length = readLength(inputStream, MAX_ID_LENGTH + 1, "id length");
+        if (length == 0) {
+            return null;
+        }
+
+        byte[] bytes = inputStream.readNBytes(length - 1);
+        if (bytes.length != length - 1) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 한 바이트를 읽습니다.
+     */
+    private static int readByte(InputStream inputStream) throws IOException {
+        int value = inputStream.read();
+        if (value < 0) {
+            throw new EOFException();
+        }
+        return value;
+    }
+
+    /**
+     * 개수나 길이를 나타내는 가변 길이 정수를 읽습니다. 입력을 신뢰할 수 없으므로 할당 전에 범위를 확인합니다.
+     *
+     * @throws IOException 최대값을 넘는 경우 발생
+     */
+    private static int readLength(InputStream inputStream, int max, String name) throws IOException {
+        long value = readVarint(inputStream);
+        if (value < 0 || value > max) {
+            throw new IOException("Invalid " + name + ": " + Long.toUnsignedString(value) + " (max " + max + ")");
+        }
+        return (int) value;
+    }
+
+    /**
+     * 가변 길이 정수를 읽습니다.
+     */
+    private static long readVarint(InputStream inputStream) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte(inputStream);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * 부호 있는 정수를 ZigZag 인코딩합니다. (0 → 0, -1 → 1, 1 → 2, ...)
+     */
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * ZigZag 인코딩된 정수를 복원합니다.
+     */
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 내부 버퍼에 모아 출력하는 가변 길이 정수 출력기
+     */
+    private static final class VarintWriter {
+
+        /** 출력 대상 스트림 */
+        private final OutputStream outputStream;
+
+        /** 출력 버퍼 */
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        /** 출력 버퍼의 현재 위치 */
+        private int position;
+
+        VarintWriter(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        void writeByte(int value) throws IOException {
+            if (position == buffer.length) {
+                drain();
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarint(long value) throws IOException {
+            // varint는 최대 10바이트
+            if (buffer.length - position < 10) {
+                drain();
+            }
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            drain();
+            outputStream.write(bytes);
+        }
+
+        void flush() throws IOException {
+            drain();
+            outputStream.flush();
+        }
+
+        private void drain() throws IOException {
+            if (position > 0) {
+                outputStream.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.func.functional.biz.chart.codec;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.func.functional.biz.chart.model.ChartBatchOut;
+import com.func.functional.biz.chart.model.ChartSeries;
+
+/**
+ * {@link ChartSeries}와 {@link ChartBatchOut}을 차트 바이너리 형식({@value ChartBinaryCodec#MEDIA_TYPE_VALUE})으로
+ * 변환하는 HttpMessageConverter입니다.
+ *
+ * <p>
+ * 클라이언트가 {@code Accept: application/x-chart-binary} 헤더로 요청하면 JSON 대신 이 형식으로 응답합니다.
+ * </p>
+ */
+public class ChartBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    /**
+     * 생성자
+     */
+    public ChartBinaryHttpMessageConverter() {
+        super(ChartBinaryCodec.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ChartSeries.class.isAssignableFrom(clazz) || ChartBatchOut.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        if (ChartBatchOut.class.isAssignableFrom(clazz)) {
+            return ChartBinaryCodec.decodeBatch(inputMessage.getBody());
+        }
+        return ChartBinaryCodec.decodeSeries(inputMessage.getBody());
+    }
+
+    @Override
+    protected void writeInternal(Object chart, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        if (chart instanceof ChartBatchOut batch) {
+            ChartBinaryCodec.encode(batch, outputMessage.getBody());
+        } else {
+            ChartBinaryCodec.encode((ChartSeries) chart, outputMessage.getBody());
+        }
+    }
+}
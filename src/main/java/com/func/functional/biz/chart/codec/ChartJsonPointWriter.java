@@ -0,0 +1,94 @@
+package com.func.functional.biz.chart.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.func.functional.utils.DateUtils;
+
+/**
+ * 차트 데이터 한 건을 {@code {"x":"20240102","y":1.26}} 형식의 JSON 객체로 출력하는 클래스입니다.
+ *
+ * <p>
+ * 날짜와 수익률은 내부 문자 버퍼에 직접 기록하므로 데이터마다 {@link String}이나 {@link java.math.BigDecimal}을
+ * 생성하지 않습니다. 내부 버퍼를 사용하므로 하나의 출력 작업 안에서만 사용해야 합니다.
+ * </p>
+ */
+class ChartJsonPointWriter {
+
+    /** X축 필드명 */
+    private static final SerializedString X_FIELD = new SerializedString("x");
+
+    /** Y축 필드명 */
+    private static final SerializedString Y_FIELD = new SerializedString("y");
+
+    /** 날짜(yyyyMMdd) 출력 버퍼 */
+    private final char[] dateBuffer = new char[8];
+
+    /** 수익률 출력 버퍼 (부호, long 최대 자릿수, 소수점 포함) */
+    private final char[] valueBuffer = new char[24];
+
+    /**
+     * 차트 데이터 한 건을 JSON 객체로 출력합니다.
+     *
+     * @param generator   JSON 출력기
+     * @param epochDay    X축 값 (epoch day)
+     * @param scaledValue Y축 값 (소수점 2자리 스케일)
+     * @throws IOException 출력 중 발생할 수 있는 예외
+     */
+    void write(JsonGenerator generator, int epochDay, long scaledValue) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(X_FIELD);
+        generator.writeString(dateBuffer, 0, formatDate(epochDay));
+        generator.writeFieldName(Y_FIELD);
+        int position = formatValue(scaledValue);
+        generator.writeRawValue(valueBuffer, position, valueBuffer.length - position);
+        generator.writeEndObject();
+    }
+
+    /**
+     * epoch day를 yyyyMMdd 형식으로 날짜 버퍼에 기록합니다.
+     *
+     * @param epochDay epoch day
+     * @return 기록된 문자 수
+     */
+    private int formatDate(int epochDay) {
+        int date = DateUtils.toDateInt(epochDay);
+        for (int i = dateBuffer.length - 1; i >= 0; i--) {
+            dateBuffer[i] = (char) ('0' + date % 10);
+            date /= 10;
+        }
+        return dateBuffer.length;
+    }
+
+    /**
+     * 소수점 2자리 스케일 정수를 소수 형식(예: -1.26)으로 수익률 버퍼의 끝에 기록합니다.
+     *
+     * @param scaledValue 소수점 2자리 스케일 정수
+     * @return 기록이 시작된 위치
+     */
+    private int formatValue(long scaledValue) {
+        int position = valueBuffer.length;
+
+        // Long.MIN_VALUE를 고려하여 음수 상태로 계산
+        long value = scaledValue < 0 ? scaledValue : -scaledValue;
+
+        // 소수점 이하 2자리
+        valueBuffer[--position] = (char) ('0' - value % 10);
+        value /= 10;
+        valueBuffer[--position] = (char) ('0' - value % 10);
+        value /= 10;
+        valueBuffer[--position] = '.';
+
+        // 정수부
+        do {
+            valueBuffer[--position] = (char) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        if (scaledValue < 0) {
+            valueBuffer[--position] = '-';
+        }
+        return position;
+    }
+}
@@ -0,0 +1,71 @@
+package com.func.functional.biz.chart.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.func.functional.biz.chart.model.ChartPointConsumer;
+
+/**
+ * 차트 데이터를 NDJSON(한 줄에 하나의 JSON 객체) 형식으로 출력하는 클래스입니다.
+ *
+ * <p>
+ * 생성되는 즉시 {@code {"x":"20240102","y":1.26}} 형식으로 출력하므로 기간의 길이와 관계없이 요청당 메모리 사용량이
+ * 일정합니다. 날짜와 수익률은 내부 문자 버퍼에 직접 기록하여 데이터마다 객체를 생성하지 않습니다.
+ * </p>
+ */
+public class ChartNdjsonWriter implements ChartPointConsumer, AutoCloseable {
+
+    /** JsonFactory (출력 대상 스트림은 닫지 않음) */
+    private static final JsonFactory jsonFactory = JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+    /** 줄 구분자 */
+    private static final SerializedString LINE_SEPARATOR = new SerializedString("\n");
+
+    /** JSON 출력기 */
+    private final JsonGenerator generator;
+
+    /** 차트 데이터 출력기 */
+    private final ChartJsonPointWriter pointWriter = new ChartJsonPointWriter();
+
+    /**
+     * 생성자
+     *
+     * @param outputStream 출력 대상 스트림
+     * @throws IOException 출력기를 생성하는 동안 발생할 수 있는 예외
+     */
+    public ChartNdjsonWriter(OutputStream outputStream) throws IOException {
+        this.generator = jsonFactory.createGenerator(outputStream);
+        this.generator.setRootValueSeparator(LINE_SEPARATOR);
+    }
+
+    /**
+     * 차트 데이터 한 건을 한 줄로 출력합니다.
+     *
+     * @param epochDay    X축 값 (epoch day)
+     * @param scaledValue Y축 값 (소수점 2자리 스케일)
+     */
+    @Override
+    public void accept(int epochDay, long scaledValue) {
+        try {
+            pointWriter.write(generator, epochDay, scaledValue);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마지막 줄바꿈을 출력하고 버퍼를 비웁니다. (출력 대상 스트림은 닫지 않음)
+     *
+     * @throws IOException 출력 중 발생할 수 있는 예외
+     */
+    @Override
+    public void close() throws IOException {
+        generator.writeRaw('\n');
+        generator.close();
+    }
+}
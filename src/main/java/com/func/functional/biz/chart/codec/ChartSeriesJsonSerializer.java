@@ -0,0 +1,39 @@
+package com.func.functional.biz.chart.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.func.functional.biz.chart.model.ChartSeries;
+
+/**
+ * {@link ChartSeries}를 {@link com.func.functional.biz.chart.model.ChartModel} 배열과 같은 JSON 형식
+ * ({@code [{"x":"20240102","y":1.26}, ...]})으로 출력하는 Serializer입니다.
+ *
+ * <p>
+ * 열 단위 배열에서 바로 출력하므로 ChartModel 리스트를 만들지 않습니다.
+ * </p>
+ */
+public class ChartSeriesJsonSerializer extends StdSerializer<ChartSeries> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 생성자
+     */
+    public ChartSeriesJsonSerializer() {
+        super(ChartSeries.class);
+    }
+
+    @Override
+    public void serialize(ChartSeries series, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        ChartJsonPointWriter pointWriter = new ChartJsonPointWriter();
+
+        generator.writeStartArray(series, series.size());
+        for (int i = 0, size = series.size(); i < size; i++) {
+            pointWriter.write(generator, series.getEpochDay(i), series.getValue(i));
+        }
+        generator.writeEndArray();
+    }
+}
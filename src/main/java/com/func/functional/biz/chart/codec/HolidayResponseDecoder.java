@@ -0,0 +1,227 @@
+package com.func.functional.biz.chart.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.func.functional.biz.chart.model.HolidayDates;
+import com.func.functional.utils.DateUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 공휴일 API 응답을 {@link HolidayDates}로 변환하는 Decoder입니다.
+ *
+ * <p>
+ * WebClient가 받은 {@link DataBuffer}를 Jackson의 논블로킹 파서에 순서대로 넣으면서
+ * {@code response.body.items.item[].locdate} 값만 읽어 epoch day 배열에 담습니다. 응답 전체를 문자열이나 JSON 트리로 만들지
+ * 않으므로 응답 크기(조회 건수)가 늘어도 추가 메모리는 공휴일 수만큼만 사용합니다. 항목이 하나뿐이어서 {@code item}이 배열이 아닌
+ * 객체로 오는 경우와 {@code locdate}가 문자열로 오는 경우도 처리합니다.
+ * </p>
+ */
+public class HolidayResponseDecoder extends AbstractDecoder<HolidayDates> {
+
+    /** JsonFactory (스레드 안전) */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** 공휴일 날짜 필드 이름 */
+    private static final String LOCDATE = "locdate";
+
+    /** 공휴일 항목의 상위 필드 이름 (가까운 순서) */
+    private static final String[] ITEM_PATH = { "item", "items", "body", "response" };
+
+    /**
+     * 생성자 (공휴일 API는 오류 시 Content-Type이 일정하지 않으므로 모든 형식을 받음)
+     */
+    public HolidayResponseDecoder() {
+        super(MimeTypeUtils.ALL);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return HolidayDates.class == elementType.toClass() && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<HolidayDates> decode(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return decodeToMono(input, elementType, mimeType, hints).flux();
+    }
+
+    @Override
+    public Mono<HolidayDates> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(input)
+                .collect(HolidayReader::new, HolidayReader::feed)
+                .map(HolidayReader::finish)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    @Override
+    public HolidayDates decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+        HolidayReader reader = new HolidayReader();
+        reader.feed(buffer);
+        return reader.finish();
+    }
+
+    /**
+     * 응답 본문을 나누어 받아 공휴일 날짜를 읽는 클래스 (응답마다 생성)
+     */
+    private static class HolidayReader {
+
+        /** 논블로킹 JSON 파서 */
+        private final JsonParser parser;
+
+        /** 파서 입력 */
+        private final ByteBufferFeeder feeder;
+
+        /** 읽은 공휴일 (epoch day) */
+        private int[] epochDays = new int[32];
+
+        /** 읽은 공휴일 수 */
+        private int size;
+
+        HolidayReader() {
+            try {
+                parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+            } catch (IOException e) {
+                throw new DecodingException("Failed to create JSON parser: " + e.getMessage(), e);
+            }
+            feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        /**
+         * 본문 일부를 파서에 넣고 읽을 수 있는 만큼 읽습니다. 버퍼는 해제됩니다.
+         *
+         * @param buffer 응답 본문 일부
+         */
+        void feed(DataBuffer buffer) {
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer byteBuffer = iterator.next();
+                    if (byteBuffer.hasRemaining()) {
+                        feeder.feedInput(byteBuffer);
+                        readAvailable();
+                    }
+                }
+            } catch (IOException e) {
+                throw new DecodingException("Failed JSON parsing: " + e.getMessage(), e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        /**
+         * 남은 본문을 읽고 정렬된 공휴일을 반환합니다.
+         *
+         * @return 오름차순으로 정렬된 공휴일 (중복 없음)
+         */
+        HolidayDates finish() {
+            try {
+                feeder.endOfInput();
+                readAvailable();
+                parser.close();
+            } catch (IOException e) {
+                throw new DecodingException("Failed JSON parsing: " + e.getMessage(), e);
+            }
+
+            Arrays.sort(epochDays, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || epochDays[distinct - 1] != epochDays[i]) {
+                    epochDays[distinct++] = epochDays[i];
+                }
+            }
+            return new HolidayDates(Arrays.copyOf(epochDays, distinct));
+        }
+
+        /**
+         * 지금까지 받은 입력에서 읽을 수 있는 토큰을 모두 읽습니다.
+         *
+         * @throws IOException JSON 형식이 올바르지 않은 경우
+         */
+        private void readAvailable() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if ((token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_STRING) && LOCDATE.equals(parser.currentName()) && isItem()) {
+                    int locdate = token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : parseDigits();
+                    if (locdate > 0) {
+                        add(DateUtils.toEpochDay(locdate / 10000, locdate / 100 % 100, locdate % 100));
+                    }
+                }
+            }
+        }
+
+        /**
+         * 현재 값이 공휴일 항목({@code response.body.items.item})의 필드인지 확인합니다.
+         *
+         * @return 공휴일 항목의 필드이면 {@code true}
+         */
+        private boolean isItem() {
+            // 현재 객체(항목)의 상위부터 확인, item이 배열이면 건너뜀
+            JsonStreamContext context = parser.getParsingContext().getParent();
+            if (context != null && context.inArray()) {
+                context = context.getParent();
+            }
+
+            for (String name : ITEM_PATH) {
+                if (context == null || !name.equals(context.getCurrentName())) {
+                    return false;
+                }
+                context = context.getParent();
+            }
+            return true;
+        }
+
+        /**
+         * 문자열 값을 숫자로 변환합니다. (문자열 객체를 만들지 않음)
+         *
+         * @return 숫자 (숫자가 아니면 0)
+         * @throws IOException 값을 읽을 수 없는 경우
+         */
+        private int parseDigits() throws IOException {
+            char[] text = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            if (length == 0 || length > 9) {
+                return 0;
+            }
+
+            int value = 0;
+            for (int i = offset; i < offset + length; i++) {
+                int digit = text[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return 0;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        /**
+         * 공휴일을 추가합니다.
+         *
+         * @param epochDay 공휴일 (epoch day)
+         */
+        private void add(int epochDay) {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+            }
+            epochDays[size++] = epochDay;
+        }
+    }
+}
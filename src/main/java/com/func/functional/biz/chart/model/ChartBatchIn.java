@@ -0,0 +1,32 @@
+package com.func.functional.biz.chart.model;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * <p>
+ * 여러 차트를 한 번에 생성하기 위한 요청 데이터 전송 객체(DTO)입니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@Schema(title = "차트일괄생성요청", description = "한 번에 생성할 차트의 생성 조건 목록")
+public class ChartBatchIn {
+
+    /** 한 번에 생성할 수 있는 최대 차트 수 */
+    public static final int MAX_SERIES = 100;
+
+    /** 차트 생성 조건 목록 */
+    @Schema(title = "차트 생성 조건 목록")
+    @NotEmpty(message = "차트 생성 조건은 필수입니다.")
+    @Size(max = MAX_SERIES, message = "한 번에 생성할 수 있는 차트는 최대 " + MAX_SERIES + "개입니다.")
+    private List<@Valid ChartSpecIn> series;
+}
@@ -0,0 +1,24 @@
+package com.func.functional.biz.chart.model;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * <p>
+ * 여러 차트를 한 번에 생성한 결과를 나타내는 데이터 전송 객체(DTO)입니다. 차트는 요청한 순서대로 포함됩니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@Schema(title = "차트일괄생성결과", description = "요청 순서대로 생성된 차트 목록")
+public class ChartBatchOut {
+
+    /** 생성된 차트 목록 */
+    @Schema(title = "차트 목록")
+    private List<ChartSeriesOut> series;
+}
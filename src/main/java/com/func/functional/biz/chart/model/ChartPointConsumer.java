@@ -0,0 +1,18 @@
+package com.func.functional.biz.chart.model;
+
+/**
+ * <p>
+ * 생성된 차트 데이터를 한 건씩 전달받는 인터페이스입니다. 박싱이나 객체 생성 없이 원시 값으로 전달됩니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface ChartPointConsumer {
+
+    /**
+     * 차트 데이터 한 건을 전달받습니다.
+     *
+     * @param epochDay    X축 값 (epoch day)
+     * @param scaledValue Y축 값 (소수점 2자리 스케일, 예: 1.26 → 126)
+     */
+    void accept(int epochDay, long scaledValue);
+}
@@ -0,0 +1,123 @@
+package com.func.functional.biz.chart.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.func.functional.biz.chart.codec.ChartSeriesJsonSerializer;
+import com.func.functional.utils.DateUtils;
+
+/**
+ * <p>
+ * 차트 데이터를 열(column) 단위의 원시 배열로 보관하는 클래스입니다. X축은 epoch day({@code int}), Y축은 소수점 2자리로
+ * 스케일된 정수({@code long}, 예: 1.26 → 126)로 저장하며, {@link ChartModel}은 응답 직전에만 생성합니다.
+ * </p>
+ *
+ * <p>
+ * JSON으로는 {@link ChartModel} 배열과 같은 형식으로 직렬화됩니다.
+ * </p>
+ */
+@JsonSerialize(using = ChartSeriesJsonSerializer.class)
+public class ChartSeries implements ChartPointConsumer {
+
+    /** Y축 값의 소수점 자릿수 */
+    public static final int SCALE = 2;
+
+    /** X축 값 (epoch day) */
+    private int[] epochDays;
+
+    /** Y축 값 (소수점 2자리 스케일) */
+    private long[] values;
+
+    /** 저장된 데이터 수 */
+    private int size;
+
+    /**
+     * 생성자
+     *
+     * @param capacity 예상 데이터 수
+     */
+    public ChartSeries(int capacity) {
+        this.epochDays = new int[Math.max(capacity, 0)];
+        this.values = new long[Math.max(capacity, 0)];
+    }
+
+    /**
+     * 데이터를 추가합니다.
+     *
+     * @param epochDay    X축 값 (epoch day)
+     * @param scaledValue Y축 값 (소수점 2자리 스케일)
+     */
+    @Override
+    public void accept(int epochDay, long scaledValue) {
+        if (size == epochDays.length) {
+            int capacity = Math.max(16, size + (size >> 1));
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        epochDays[size] = epochDay;
+        values[size] = scaledValue;
+        size++;
+    }
+
+    /**
+     * 저장된 데이터 수를 반환합니다.
+     *
+     * @return 데이터 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 저장된 데이터가 없는지 확인합니다.
+     *
+     * @return 데이터가 없으면 {@code true}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 주어진 위치의 X축 값을 반환합니다.
+     *
+     * @param index 위치
+     * @return X축 값 (epoch day)
+     */
+    public int getEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * 주어진 위치의 Y축 값을 반환합니다.
+     *
+     * @param index 위치
+     * @return Y축 값 (소수점 2자리 스케일)
+     */
+    public long getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * 저장된 데이터를 {@link ChartModel} 리스트로 변환합니다.
+     *
+     * @return ChartModel 리스트
+     */
+    public List<ChartModel> toChartModels() {
+        List<ChartModel> chartModels = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ChartModel chartModel = new ChartModel();
+            chartModel.setXAxis(DateUtils.formatEpochDay(epochDays[i]));
+            chartModel.setYAxis(BigDecimal.valueOf(values[i], SCALE));
+            chartModels.add(chartModel);
+        }
+        return chartModels;
+    }
+
+    @Override
+    public String toString() {
+        return "ChartSeries(size=" + size + ")";
+    }
+}
@@ -0,0 +1,27 @@
+package com.func.functional.biz.chart.model;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * <p>
+ * 여러 차트를 한 번에 생성한 결과 중 하나의 차트를 나타내는 데이터 전송 객체(DTO)입니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString(exclude = "data")
+@Schema(title = "차트생성결과", description = "요청한 차트의 식별자와 차트 데이터")
+public class ChartSeriesOut {
+
+    /** 차트 식별자 (요청 값) */
+    @Schema(title = "식별자", example = "product-1")
+    private String id;
+
+    /** 차트 데이터 */
+    @ArraySchema(schema = @Schema(implementation = ChartModel.class), arraySchema = @Schema(title = "차트 데이터"))
+    private ChartSeries data;
+}
@@ -0,0 +1,52 @@
+package com.func.functional.biz.chart.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * <p>
+ * 여러 차트를 한 번에 생성할 때 각 차트의 생성 조건을 나타내는 데이터 전송 객체(DTO)입니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@Schema(title = "차트생성조건", description = "생성할 차트의 기간과 난수 시드")
+public class ChartSpecIn {
+
+    /**
+     * 차트 식별자
+     * 
+     * <p>
+     * 응답에 그대로 포함되어 요청한 차트를 구분하는 데 사용됩니다.
+     * </p>
+     */
+    @Schema(title = "식별자", example = "product-1", description = "응답에서 차트를 구분하기 위한 식별자")
+    private String id;
+
+    /** 시작 날짜 (yyyyMMdd 형식) */
+    @Schema(title = "시작일자", example = "20240101")
+    @NotBlank(message = "시작일자는 필수입니다.")
+    @Pattern(regexp = "\\d{8}", message = "시작일자는 yyyyMMdd 형식이어야 합니다.")
+    private String fromDate;
+
+    /** 종료 날짜 (yyyyMMdd 형식) */
+    @Schema(title = "종료일자", example = "20241231")
+    @NotBlank(message = "종료일자는 필수입니다.")
+    @Pattern(regexp = "\\d{8}", message = "종료일자는 yyyyMMdd 형식이어야 합니다.")
+    private String toDate;
+
+    /** 난수 시드 (같은 기간과 시드는 항상 같은 차트를 생성) */
+    @Schema(title = "난수 시드", example = "4885")
+    private Long seed;
+
+    /** 최대 데이터 수 (초과하면 LTTB 방식으로 축소) */
+    @Schema(title = "최대 데이터 수", example = "600", description = "생략하면 모든 영업일 데이터를 반환")
+    @Min(value = 3, message = "최대 데이터 수는 3 이상이어야 합니다.")
+    private Integer maxPoints;
+}
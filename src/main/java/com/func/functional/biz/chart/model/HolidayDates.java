@@ -0,0 +1,12 @@
+package com.func.functional.biz.chart.model;
+
+/**
+ * <p>
+ * 공휴일 API 응답에서 추출한 공휴일 날짜입니다. 응답 본문은 {@code HolidayResponseDecoder}가 문자열이나 JSON 트리를 만들지 않고
+ * 바로 이 형식으로 변환합니다.
+ * </p>
+ *
+ * @param epochDays 오름차순으로 정렬된 공휴일 (epoch day, 중복 없음)
+ */
+public record HolidayDates(int[] epochDays) {
+}
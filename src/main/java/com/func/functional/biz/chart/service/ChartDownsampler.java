@@ -0,0 +1,173 @@
+package com.func.functional.biz.chart.service;
+
+import com.func.functional.biz.chart.model.ChartPointConsumer;
+
+/**
+ * LTTB(Largest-Triangle-Three-Buckets) 방식으로 차트 데이터 수를 줄이는 클래스입니다.
+ *
+ * <p>
+ * 첫 번째와 마지막 데이터는 유지하고, 나머지 데이터를 (최대 데이터 수 - 2)개의 구간으로 나눈 뒤 구간마다 이전에 선택된 데이터 및
+ * 다음 구간의 평균과 이루는 삼각형의 넓이가 가장 큰 데이터 하나를 선택합니다. 전체 데이터 수를 미리 알고 있으므로 현재 구간과
+ * 다음 구간만 버퍼에 보관하며, 한 번의 순회(O(n))로 처리하고 데이터마다 객체를 생성하지 않습니다.
+ * </p>
+ */
+public class ChartDownsampler implements ChartPointConsumer {
+
+    /** 최소 데이터 수 (첫 번째, 마지막 및 하나 이상의 구간) */
+    public static final int MIN_POINTS = 3;
+
+    /** 선택된 데이터를 전달받을 대상 */
+    private final ChartPointConsumer sink;
+
+    /** 전달될 전체 데이터 수 */
+    private final int size;
+
+    /** 가운데 구간 수 (최대 데이터 수 - 2) */
+    private final int bucketCount;
+
+    // 현재 구간과 다음 구간의 데이터 버퍼
+    private final int[] bufferDays;
+    private final long[] bufferValues;
+    private int bufferLength;
+
+    /** 버퍼 중 현재 구간에 해당하는 데이터 수 */
+    private int currentLength;
+
+    /** 현재 구간 번호 (0부터 시작) */
+    private int bucket;
+
+    /** 전달받은 데이터 수 */
+    private int index;
+
+    // 직전에 선택된 데이터
+    private int selectedDay;
+    private long selectedValue;
+
+    /**
+     * 생성자
+     *
+     * @param sink      선택된 데이터를 전달받을 대상
+     * @param size      전달될 전체 데이터 수
+     * @param maxPoints 최대 데이터 수 ({@link #MIN_POINTS} 이상, 전체 데이터 수 미만)
+     */
+    private ChartDownsampler(ChartPointConsumer sink, int size, int maxPoints) {
+        this.sink = sink;
+        this.size = size;
+        this.bucketCount = maxPoints - 2;
+
+        // 구간당 최대 데이터 수의 2배
+        int capacity = 2 * ((size - 2 + bucketCount - 1) / bucketCount + 1);
+        this.bufferDays = new int[capacity];
+        this.bufferValues = new long[capacity];
+        this.currentLength = bucketStart(1) - bucketStart(0);
+    }
+
+    /**
+     * 최대 데이터 수를 넘는 경우에만 LTTB 방식으로 데이터를 줄여 전달하는 대상을 반환합니다.
+     *
+     * @param sink      선택된 데이터를 전달받을 대상
+     * @param size      전달될 전체 데이터 수
+     * @param maxPoints 최대 데이터 수 ({@code null}이면 줄이지 않음, {@link #MIN_POINTS} 미만이면 {@link #MIN_POINTS})
+     * @return 데이터를 전달받을 대상 (줄일 필요가 없으면 {@code sink} 그대로)
+     */
+    public static ChartPointConsumer downsample(ChartPointConsumer sink, int size, Integer maxPoints) {
+        int outputSize = outputSize(size, maxPoints);
+        return outputSize == size ? sink : new ChartDownsampler(sink, size, outputSize);
+    }
+
+    /**
+     * 데이터를 줄인 후의 데이터 수를 반환합니다.
+     *
+     * @param size      전체 데이터 수
+     * @param maxPoints 최대 데이터 수 ({@code null}이면 줄이지 않음)
+     * @return 데이터를 줄인 후의 데이터 수
+     */
+    public static int outputSize(int size, Integer maxPoints) {
+        if (maxPoints == null) {
+            return size;
+        }
+        return Math.min(size, Math.max(maxPoints, MIN_POINTS));
+    }
+
+    @Override
+    public void accept(int epochDay, long scaledValue) {
+        // 첫 번째 데이터는 항상 유지
+        if (index++ == 0) {
+            select(epochDay, scaledValue);
+            return;
+        }
+
+        bufferDays[bufferLength] = epochDay;
+        bufferValues[bufferLength] = scaledValue;
+        bufferLength++;
+
+        // 다음 구간이 채워지면 현재 구간에서 데이터를 선택
+        if (index == Math.min(bucketStart(bucket + 2), size)) {
+            selectFromCurrentBucket();
+
+            // 마지막 데이터만 남았으면 그대로 전달
+            if (bucket == bucketCount) {
+                select(bufferDays[0], bufferValues[0]);
+            }
+        }
+    }
+
+    /**
+     * 다음 구간의 평균과 직전에 선택된 데이터로 이루는 삼각형의 넓이가 가장 큰 데이터를 현재 구간에서 선택하고, 다음 구간을 현재
+     * 구간으로 옮깁니다.
+     */
+    private void selectFromCurrentBucket() {
+        // 다음 구간의 평균
+        double averageDay = 0;
+        double averageValue = 0;
+        int nextLength = bufferLength - currentLength;
+        for (int i = currentLength; i < bufferLength; i++) {
+            averageDay += bufferDays[i];
+            averageValue += bufferValues[i];
+        }
+        averageDay /= nextLength;
+        averageValue /= nextLength;
+
+        // 삼각형의 넓이(의 2배)가 가장 큰 데이터
+        int selected = 0;
+        double maxArea = -1;
+        for (int i = 0; i < currentLength; i++) {
+            double area = Math.abs((selectedDay - averageDay) * (bufferValues[i] - selectedValue)
+                    - (selectedDay - bufferDays[i]) * (averageValue - selectedValue));
+            if (area > maxArea) {
+                maxArea = area;
+                selected = i;
+            }
+        }
+        select(bufferDays[selected], bufferValues[selected]);
+
+        // 다음 구간을 버퍼의 앞으로 이동
+        System.arraycopy(bufferDays, currentLength, bufferDays, 0, nextLength);
+        System.arraycopy(bufferValues, currentLength, bufferValues, 0, nextLength);
+        bufferLength = nextLength;
+        currentLength = nextLength;
+        bucket++;
+    }
+
+    /**
+     * 데이터를 선택하여 전달합니다.
+     *
+     * @param epochDay    X축 값 (epoch day)
+     * @param scaledValue Y축 값 (소수점 2자리 스케일)
+     */
+    private void select(int epochDay, long scaledValue) {
+        selectedDay = epochDay;
+        selectedValue = scaledValue;
+        sink.accept(epochDay, scaledValue);
+    }
+
+    /**
+     * 구간의 시작 위치를 반환합니다. 가운데 구간 다음의 구간은 마지막 데이터 하나로 이루어집니다.
+     *
+     * @param bucket 구간 번호
+     * @return 구간의 시작 위치 (전체 데이터 기준)
+     */
+    private int bucketStart(int bucket) {
+        return bucket > bucketCount ? size : (int) ((long) bucket * (size - 2) / bucketCount) + 1;
+    }
+}
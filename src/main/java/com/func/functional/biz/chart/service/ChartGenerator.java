@@ -0,0 +1,156 @@
+package com.func.functional.biz.chart.service;
+
+import java.util.random.RandomGenerator;
+
+import com.func.functional.biz.chart.model.ChartPointConsumer;
+import com.func.functional.utils.BusinessCalendar;
+import com.func.functional.utils.DateUtils;
+
+/**
+ * 랜덤 수익률 차트 데이터를 생성하는 엔진입니다.
+ *
+ * <p>
+ * 날짜는 epoch day({@code int}), 수익률은 {@code double}로 계산하며 결과는 소수점 2자리로 절사(RoundingMode.DOWN)한
+ * 정수로 전달합니다. 월별 영업일 수는 {@link BusinessCalendar}에서 O(1)로 구하고 영업일은 한 번만 순회하므로, 생성 비용은
+ * 영업일 수에 비례합니다.
+ * </p>
+ */
+public final class ChartGenerator {
+
+    /**
+     * 객체를 생성할 수 없게 하기 위한 private 생성자
+     */
+    private ChartGenerator() {
+        throw new IllegalStateException(this.getClass().getPackageName() + "." + this.getClass().getSimpleName());
+    }
+
+    // 상수 정의 (매직 넘버 제거)
+    private static final double TARGET_PROFIT_MULTIPLIER = 11;
+    private static final double RANDOM_VARIATION_RANGE = 3;
+    private static final double RANDOM_OFFSET = -0.5;
+
+    /** 소수점 2자리 스케일 */
+    private static final double SCALE_FACTOR = 100;
+
+    /** 부동소수점 오차 보정값 (예: 1.26 * 100 = 125.99999...) */
+    private static final double ROUNDING_EPSILON = 1e-9;
+
+    /**
+     * 랜덤 수익률 데이터를 생성
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param toEpochDay   종료 날짜 (epoch day)
+     * @param calendar     영업일 달력
+     * @param random       난수 생성기 (같은 시드의 생성기는 같은 결과를 생성)
+     * @param sink         생성된 데이터를 전달받을 대상
+     */
+    public static void generate(int fromEpochDay, int toEpochDay, BusinessCalendar calendar, RandomGenerator random, ChartPointConsumer sink) {
+        int fromDate = DateUtils.toDateInt(fromEpochDay);
+        int fromYear = fromDate / 10000;
+        int fromMonth = fromDate / 100 % 100;
+
+        // 시작일과 종료일 사이의 월 차이를 계산
+        int monthsBetween = monthsBetween(fromDate, DateUtils.toDateInt(toEpochDay));
+
+        // 타겟 수익률을 랜덤하게 설정
+        double targetProfitRate = (random.nextDouble() - RANDOM_OFFSET) * TARGET_PROFIT_MULTIPLIER - RANDOM_VARIATION_RANGE;
+
+        // 이전 월의 수익률 초기화
+        double previousMonthlyProfitRate = 0;
+
+        boolean first = true;
+        int businessDay = calendar.nextBusinessDay(fromEpochDay);
+
+        // 각 월별 수익률을 계산
+        for (int i = 0; i < monthsBetween; i++) {
+            // 타겟 수익률을 월별로 분할하여 기준 수익률 설정
+            double monthlyProfitRateBase = targetProfitRate / monthsBetween * (i + 1);
+
+            // 기준값에서 -1.5 ~ +1.5 범위로 랜덤하게 설정한 월별 수익률
+            double monthlyProfitRate = monthlyProfitRateBase + (random.nextDouble() - RANDOM_OFFSET) * RANDOM_VARIATION_RANGE;
+
+            // 다음 달 1일 이전(종료일 포함)까지가 현재 월의 영업일
+            int monthIndex = fromMonth + i;
+            int monthEnd = Math.min(DateUtils.toEpochDay(fromYear + monthIndex / 12, monthIndex % 12 + 1, 1) - 1, toEpochDay);
+            int daysInMonth = calendar.businessDaysBetween(businessDay, monthEnd);
+
+            // 각 영업일에 대한 일별 수익률을 계산
+            for (int j = 0; j < daysInMonth; j++) {
+                // 이전월 수익률 + ((당월 수익률 - 이전월(첫번째달에는 0)) / 일수(daysInMonth) * (j+1))
+                double dailyProfitRateBase = previousMonthlyProfitRate + (monthlyProfitRate - previousMonthlyProfitRate) / (daysInMonth * (j + 1));
+
+                // 일별 수익률에 -3 ~ +3 범위의 랜덤값을 추가
+                double dailyProfitRate = dailyProfitRateBase + (random.nextDouble() - RANDOM_OFFSET) * RANDOM_VARIATION_RANGE;
+
+                // 첫 번째 수익률은 0으로 설정 (초기값)
+                sink.accept(businessDay, first ? 0 : toScaled(dailyProfitRate));
+                first = false;
+
+                businessDay = calendar.nextBusinessDay(businessDay + 1);
+            }
+
+            // 영업일이 없는 달은 다음 달 1일부터 다시 탐색
+            if (daysInMonth == 0) {
+                businessDay = calendar.nextBusinessDay(monthEnd + 1);
+            }
+
+            // 이전 월 수익률을 업데이트
+            previousMonthlyProfitRate = monthlyProfitRate;
+        }
+    }
+
+    /**
+     * 주어진 기간에 생성될 데이터 수를 계산
+     *
+     * <p>
+     * 시작일부터 월 차이만큼의 달에 속한 영업일 수와 같습니다. (월 차이가 0 이하이면 생성되지 않음)
+     * </p>
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param toEpochDay   종료 날짜 (epoch day)
+     * @param calendar     영업일 달력
+     * @return 생성될 데이터 수
+     */
+    public static int pointCount(int fromEpochDay, int toEpochDay, BusinessCalendar calendar) {
+        int fromDate = DateUtils.toDateInt(fromEpochDay);
+        int monthsBetween = monthsBetween(fromDate, DateUtils.toDateInt(toEpochDay));
+        if (monthsBetween <= 0) {
+            return 0;
+        }
+
+        // 마지막으로 생성되는 달의 다음 달 1일 이전(종료일 포함)까지
+        int monthIndex = fromDate / 100 % 100 + monthsBetween - 1;
+        int lastMonthEnd = Math.min(DateUtils.toEpochDay(fromDate / 10000 + monthIndex / 12, monthIndex % 12 + 1, 1) - 1, toEpochDay);
+        return calendar.businessDaysBetween(fromEpochDay, lastMonthEnd);
+    }
+
+    /**
+     * 두 날짜 사이의 월 수를 계산합니다. ({@link DateUtils#getMonthsDifference(String, String)}와 동일)
+     *
+     * @param fromDate 시작 날짜 (yyyyMMdd 형식의 정수)
+     * @param toDate   종료 날짜 (yyyyMMdd 형식의 정수)
+     * @return 두 날짜 사이의 월 수
+     */
+    static int monthsBetween(int fromDate, int toDate) {
+        int months = (toDate / 10000 * 12 + toDate / 100 % 100) - (fromDate / 10000 * 12 + fromDate / 100 % 100);
+        int fromDay = fromDate % 100;
+        int toDay = toDate % 100;
+
+        if (months > 0 && toDay < fromDay) {
+            months--;
+        } else if (months < 0 && toDay > fromDay) {
+            months++;
+        }
+        return months;
+    }
+
+    /**
+     * 수익률을 소수점 2자리로 절사한 정수로 변환합니다.
+     *
+     * @param value 수익률
+     * @return 소수점 2자리 스케일 정수 (예: 1.269 → 126)
+     */
+    static long toScaled(double value) {
+        return (long) (value * SCALE_FACTOR + (value >= 0 ? ROUNDING_EPSILON : -ROUNDING_EPSILON));
+    }
+}
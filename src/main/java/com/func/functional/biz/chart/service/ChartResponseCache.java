@@ -0,0 +1,172 @@
+package com.func.functional.biz.chart.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.func.functional.biz.chart.codec.ChartBinaryCodec;
+import com.func.functional.biz.chart.model.ChartSeries;
+import com.func.functional.configs.properties.ChartConfigProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직렬화된 차트 응답을 보관하는 캐시입니다.
+ *
+ * <p>
+ * 난수 시드가 지정된 차트는 요청 조건과 공휴일 정보만으로 결과가 결정되므로, 직렬화된 응답과 함께 두 값으로 계산한 강한 ETag를
+ * 보관합니다. ETag는 차트를 생성하지 않고도 계산할 수 있으므로 캐시에서 축출된 후에도 조건부 요청에 바로 304로 응답할 수 있습니다.
+ * 캐시는 응답 크기의 합으로 제한되며 W-TinyLFU 방식으로 축출됩니다. 적중률 등의 지표는 {@code cache.*{cache=chart.response}}로
+ * 노출됩니다.
+ * </p>
+ *
+ * <p>
+ * 차트 생성(공휴일 조회 포함)은 캐시의 잠금 밖에서 요청 스레드가 수행합니다. 같은 키를 동시에 요청하면 먼저 등록한 요청만 생성하고 나머지는 그
+ * 결과를 기다립니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChartResponseCache {
+
+    /** 캐시 이름 (지표 태그) */
+    private static final String CACHE_NAME = "chart.response";
+
+    /** 캐시 항목당 고정 크기 (키, ETag 등) */
+    private static final int ENTRY_OVERHEAD = 128;
+
+    /** ObjectMapper */
+    private final ObjectMapper objectMapper;
+
+    /** 차트 생성 설정 */
+    private final ChartConfigProperties chartConfigProperties;
+
+    /** MeterRegistry */
+    private final MeterRegistry meterRegistry;
+
+    /** 직렬화된 응답 캐시 */
+    private AsyncCache<Key, CachedChart> cache;
+
+    /**
+     * 설정된 크기와 유효 기간으로 캐시를 생성하고 지표를 등록합니다.
+     */
+    @PostConstruct
+    void initialize() {
+        ChartConfigProperties.ResponseCache properties = chartConfigProperties.getResponseCache();
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((Key key, CachedChart value) -> value.body().length + ENTRY_OVERHEAD)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 사용 여부를 반환합니다.
+     *
+     * @return 캐시를 사용하면 {@code true}
+     */
+    public boolean isEnabled() {
+        return chartConfigProperties.getResponseCache().isEnabled();
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 차트를 생성하여 직렬화한 후 캐시에 저장합니다.
+     *
+     * @param key    요청 조건
+     * @param loader 차트를 생성하는 함수 (캐시에 없을 때만 호출)
+     * @return 직렬화된 응답
+     */
+    public CachedChart get(Key key, Supplier<ChartSeries> loader) {
+        // 캐시에는 빈 future만 등록하고, 생성은 잠금을 해제한 후 수행
+        CompletableFuture<CachedChart> loading = new CompletableFuture<>();
+        CompletableFuture<CachedChart> future = cache.get(key, (k, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(serialize(key, loader.get()));
+            } catch (RuntimeException | Error e) {
+                // 실패한 future는 캐시에서 제거되므로 다음 요청이 다시 생성
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 요청 조건의 강한 ETag를 계산합니다.
+     *
+     * <p>
+     * 같은 조건과 같은 공휴일 정보로 생성한 응답은 항상 같으므로, 응답 본문 대신 요청 조건으로 계산합니다. 서버가 여러 대여도 같은
+     * 값입니다.
+     * </p>
+     *
+     * @param key 요청 조건
+     * @return ETag
+     */
+    public String eTag(Key key) {
+        String value = key.fromEpochDay() + ":" + key.toEpochDay() + ":" + key.seed() + ":" + key.maxPoints() + ":" + key.mediaType() + ":"
+                + key.holidayVersion();
+        return "\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 차트를 요청한 형식으로 직렬화합니다.
+     *
+     * @param key    요청 조건
+     * @param series 차트 데이터
+     * @return 직렬화된 응답
+     */
+    private CachedChart serialize(Key key, ChartSeries series) {
+        try {
+            MediaType mediaType = key.mediaType();
+            byte[] body = ChartBinaryCodec.MEDIA_TYPE.equals(mediaType) ? ChartBinaryCodec.encode(series) : objectMapper.writeValueAsBytes(series);
+            return new CachedChart(body, eTag(key), mediaType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 정규화된 차트 요청 조건 (캐시 키)
+     *
+     * @param fromEpochDay   시작 날짜 (epoch day)
+     * @param toEpochDay     종료 날짜 (epoch day)
+     * @param seed           난수 시드
+     * @param maxPoints      최대 데이터 수 (축소하지 않으면 0)
+     * @param mediaType      응답 형식
+     * @param holidayVersion 차트 생성에 사용한 공휴일 정보의 버전
+     */
+    public record Key(int fromEpochDay, int toEpochDay, long seed, int maxPoints, MediaType mediaType, long holidayVersion) {
+    }
+
+    /**
+     * 직렬화된 차트 응답
+     *
+     * @param body      응답 본문
+     * @param eTag      강한 ETag (요청 조건과 공휴일 정보 버전의 MD5)
+     * @param mediaType 응답 형식
+     */
+    public record CachedChart(byte[] body, String eTag, MediaType mediaType) {
+    }
+}
@@ -1,27 +1,31 @@
 package com.func.functional.biz.chart.service;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
-import java.math.RoundingMode;
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.func.functional.biz.chart.model.ChartModel;
-import com.func.functional.biz.client.ApiClient;
-import com.func.functional.configs.properties.ApiServerConfigProperties;
+import com.func.functional.biz.chart.codec.ChartNdjsonWriter;
+import com.func.functional.biz.chart.model.ChartBatchIn;
+import com.func.functional.biz.chart.model.ChartBatchOut;
+import com.func.functional.biz.chart.model.ChartSeries;
+import com.func.functional.biz.chart.model.ChartSeriesOut;
+import com.func.functional.biz.chart.model.ChartSpecIn;
+import com.func.functional.configs.properties.ChartConfigProperties;
+import com.func.functional.utils.BusinessCalendar;
 import com.func.functional.utils.DateUtils;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,38 +37,66 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChartService {
 
-    /** ApiClient */
-    private final ApiClient apiClient;
+    /** HolidayService */
+    private final HolidayService holidayService;
 
-    /** ApiServer */
-    private final ApiServerConfigProperties apiServerConfigProperties;
+    /** 차트 생성 설정 */
+    private final ChartConfigProperties chartConfigProperties;
 
-    /** ObjectMapper */
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    /** 여러 차트를 병렬로 생성하는 ForkJoinPool */
+    private ForkJoinPool batchPool;
 
-    /** DateTimeFormatter (yyyyMMdd 형식) */
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    /**
+     * 여러 차트를 병렬로 생성할 ForkJoinPool을 생성합니다.
+     */
+    @PostConstruct
+    void initialize() {
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("chart-batch-" + thread.getPoolIndex());
+            return thread;
+        };
+        batchPool = new ForkJoinPool(Math.max(chartConfigProperties.getBatchParallelism(), 1), threadFactory, null, false);
+    }
 
-    // 상수 정의 (매직 넘버 제거)
-    private static final BigDecimal TARGET_PROFIT_MULTIPLIER = new BigDecimal(11);
-    private static final BigDecimal RANDOM_VARIATION_RANGE = new BigDecimal(3);
-    private static final BigDecimal RANDOM_OFFSET = new BigDecimal(-0.5);
+    /**
+     * ForkJoinPool을 종료합니다.
+     */
+    @PreDestroy
+    void shutdown() {
+        batchPool.shutdownNow();
+    }
 
     /**
      * 주어진 기간의 랜덤 수익률 차트를 생성
      * 
-     * @param fromDate 시작 날짜 (yyyyMMdd 형식)
-     * @param toDate   종료 날짜 (yyyyMMdd 형식)
+     * @param fromDate  시작 날짜 (yyyyMMdd 형식)
+     * @param toDate    종료 날짜 (yyyyMMdd 형식)
+     * @param seed      난수 시드 (같은 기간과 시드는 항상 같은 차트를 생성, {@code null}이면 임의 생성)
+     * @param maxPoints 최대 데이터 수 (초과하면 LTTB 방식으로 축소, {@code null}이면 축소하지 않음)
+     * @return 생성된 차트 데이터
      */
-    public List<ChartModel> randomChart(String fromDate, String toDate) {
-        // 공휴일 정보를 API로부터 가져옴
-        Set<String> holidayDates = getHolidaysFromApi();
+    public ChartSeries randomChart(String fromDate, String toDate, Long seed, Integer maxPoints) {
+        BusinessCalendar calendar = getBusinessCalendar(DateUtils.toEpochDay(fromDate), DateUtils.toEpochDay(toDate));
+        return randomChart(fromDate, toDate, seed, maxPoints, calendar);
+    }
 
-        // 시작일과 종료일 사이의 영업일 리스트를 가져옴
-        List<ChartModel> businessDays = getBusinessDay(fromDate, toDate, holidayDates);
+    /**
+     * 주어진 영업일 달력으로 랜덤 수익률 차트를 생성
+     *
+     * @param fromDate  시작 날짜 (yyyyMMdd 형식)
+     * @param toDate    종료 날짜 (yyyyMMdd 형식)
+     * @param seed      난수 시드 ({@code null}이면 임의 생성)
+     * @param maxPoints 최대 데이터 수 (초과하면 LTTB 방식으로 축소, {@code null}이면 축소하지 않음)
+     * @param calendar  기간을 포함하는 영업일 달력 ({@link #getHolidayCalendar(String, String)}로 조회)
+     * @return 생성된 차트 데이터
+     */
+    public ChartSeries randomChart(String fromDate, String toDate, Long seed, Integer maxPoints, BusinessCalendar calendar) {
+        int fromEpochDay = DateUtils.toEpochDay(fromDate);
+        int toEpochDay = DateUtils.toEpochDay(toDate);
 
-        // 랜덤 수익률 데이터 생성
-        List<ChartModel> profitRateData = generateRandomProfitRates(fromDate, toDate, businessDays);
+        // 랜덤 수익률 데이터 생성 (응답할 데이터 수만큼만 할당)
+        ChartSeries profitRateData = generate(fromEpochDay, toEpochDay, calendar, seed, maxPoints);
 
         // 생성된 수익률 데이터를 로그로 출력
         log.info("Profit Rate Data: {}", profitRateData);
@@ -73,129 +105,154 @@ public class ChartService {
     }
 
     /**
-     * API를 호출하여 해당 연도의 공휴일 데이터를 가져옴
-     * 
-     * @return 공휴일 날짜들이 저장된 Set
+     * 주어진 기간의 영업일 달력과 공휴일 정보의 상태를 조회
+     *
+     * <p>
+     * 공휴일 정보의 버전은 차트를 생성하지 않고 응답을 식별(ETag)하는 데 사용하며, 공휴일을 조회하지 못한 달력
+     * ({@code degraded})으로 만든 차트는 캐시하지 않아야 합니다.
+     * </p>
+     *
+     * @param fromDate 시작 날짜 (yyyyMMdd 형식)
+     * @param toDate   종료 날짜 (yyyyMMdd 형식)
+     * @return 영업일 달력과 공휴일 정보의 상태
      */
-    private Set<String> getHolidaysFromApi() {
-        // 공휴일 정보를 가져오기 위한 API 호출
-        String holidayApiResponse = apiClient.get("getHoliDeInfo", Map.of("solYear", String.valueOf(LocalDateTime.now().getYear()), "_type", "json", "numOfRows",
-                "100", "ServiceKey", apiServerConfigProperties.getApiKey("holidayInfo")), String.class);
-
-        try {
-            // JSON 응답을 파싱하여 공휴일 날짜를 Set에 저장
-            JsonNode itemsNode = objectMapper.readTree(holidayApiResponse).path("response").path("body").path("items").path("item");
-
-            Set<String> holidaySet = new HashSet<>();
-            itemsNode.forEach(item -> holidaySet.add(item.path("locdate").asText()));
-            return holidaySet;
-        } catch (Exception e) {
-            // JSON 파싱 중 에러가 발생한 경우 로그 출력
-            if (log.isErrorEnabled()) {
-                log.error("Failed JSON parsing: {}", e.getMessage(), e);
-            }
-            return new HashSet<>();
+    public HolidayService.HolidayCalendar getHolidayCalendar(String fromDate, String toDate) {
+        return holidayService.getHolidayCalendar(year(DateUtils.toEpochDay(fromDate)), year(DateUtils.toEpochDay(toDate)));
+    }
+
+    /**
+     * 주어진 기간의 랜덤 수익률 차트를 생성하면서 NDJSON 형식으로 바로 출력
+     *
+     * <p>
+     * 생성된 데이터를 모아두지 않으므로 기간의 길이와 관계없이 요청당 메모리 사용량이 일정합니다.
+     * </p>
+     *
+     * @param fromDate     시작 날짜 (yyyyMMdd 형식)
+     * @param toDate       종료 날짜 (yyyyMMdd 형식)
+     * @param seed         난수 시드 ({@code null}이면 임의 생성)
+     * @param maxPoints    최대 데이터 수 (초과하면 LTTB 방식으로 축소, {@code null}이면 축소하지 않음)
+     * @param outputStream 출력 대상 스트림
+     * @throws IOException 출력 중 발생할 수 있는 예외
+     */
+    public void streamRandomChart(String fromDate, String toDate, Long seed, Integer maxPoints, OutputStream outputStream) throws IOException {
+        int fromEpochDay = DateUtils.toEpochDay(fromDate);
+        int toEpochDay = DateUtils.toEpochDay(toDate);
+        BusinessCalendar calendar = getBusinessCalendar(fromEpochDay, toEpochDay);
+        int pointCount = ChartGenerator.pointCount(fromEpochDay, toEpochDay, calendar);
+
+        try (ChartNdjsonWriter writer = new ChartNdjsonWriter(outputStream)) {
+            ChartGenerator.generate(fromEpochDay, toEpochDay, calendar, randomGenerator(seed), ChartDownsampler.downsample(writer, pointCount, maxPoints));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
     /**
-     * 시작일과 종료일 사이의 영업일을 계산 (주말과 공휴일 제외)
-     * 
-     * @param fromDate   시작 날짜 (yyyyMMdd 형식)
-     * @param toDate     종료 날짜 (yyyyMMdd 형식)
-     * @param holidaySet 공휴일 목록
-     * @return 영업일이 저장된 ChartModel 리스트
+     * 여러 차트를 한 번에 생성
+     *
+     * <p>
+     * 각 차트의 기간이 포함하는 연도의 공휴일만 연도마다 한 번씩 조회하여 차트별 영업일 달력을 구성하고(차트 사이의 빈 연도는 조회하지
+     * 않음), 각 차트는 ForkJoinPool에서 병렬로 생성합니다. 결과는 요청한 순서대로 반환합니다.
+     * </p>
+     *
+     * @param args 차트 생성 조건 목록 (최대 {@value ChartBatchIn#MAX_SERIES}개)
+     * @return 생성된 차트 목록
      */
-    private List<ChartModel> getBusinessDay(String fromDate, String toDate, Set<String> holidaySet) {
-        List<ChartModel> businessDays = new ArrayList<>();
-        LocalDate start = LocalDate.parse(fromDate, DATE_FORMATTER);
-        LocalDate end = LocalDate.parse(toDate, DATE_FORMATTER);
-
-        // 시작일에서 종료일까지의 날짜 중 토요일과 일요일을 제외하고 출력
-        while (!start.isAfter(end)) {
-            // 토요일과 일요일 제외, 공휴일 제외
-            if (start.getDayOfWeek() != DayOfWeek.SATURDAY && start.getDayOfWeek() != DayOfWeek.SUNDAY && !holidaySet.contains(start.format(DATE_FORMATTER))) {
-
-                ChartModel chartModel = new ChartModel();
-                chartModel.setXAxis(start.format(DATE_FORMATTER));
-                businessDays.add(chartModel); // 영업일 추가
-            }
-
-            // 다음 날로 이동
-            start = start.plusDays(1);
+    public ChartBatchOut randomCharts(ChartBatchIn args) {
+        List<ChartSpecIn> specs = args.getSeries();
+        if (specs.size() > ChartBatchIn.MAX_SERIES) {
+            throw new IllegalArgumentException("Too many series: " + specs.size() + " (max " + ChartBatchIn.MAX_SERIES + ")");
         }
 
-        return businessDays;
+        // 공휴일 정보는 차트들이 포함하는 연도만 한 번씩 조회
+        List<HolidayService.YearRange> yearRanges = specs.stream()
+                .map(spec -> new HolidayService.YearRange(year(DateUtils.toEpochDay(spec.getFromDate())), year(DateUtils.toEpochDay(spec.getToDate()))))
+                .toList();
+        List<BusinessCalendar> calendars = holidayService.getBusinessCalendars(yearRanges);
+
+        // 각 차트를 병렬로 생성
+        List<ForkJoinTask<ChartSeriesOut>> tasks = IntStream.range(0, specs.size())
+                .mapToObj(i -> batchPool.submit(() -> randomChart(specs.get(i), calendars.get(i))))
+                .toList();
+
+        ChartBatchOut result = new ChartBatchOut();
+        result.setSeries(tasks.stream().map(ForkJoinTask::join).toList());
+        return result;
     }
 
     /**
-     * 랜덤 수익률 데이터를 생성
-     * 
-     * @param fromDate     시작 날짜 (yyyyMMdd 형식)
-     * @param toDate       종료 날짜 (yyyyMMdd 형식)
-     * @param businessDays 영업일 리스트
-     * @return 생성된 수익률 데이터가 저장된 ChartModel 리스트
+     * 주어진 생성 조건과 영업일 달력으로 랜덤 수익률 차트를 생성
+     *
+     * @param spec     차트 생성 조건
+     * @param calendar 영업일 달력
+     * @return 생성된 차트
      */
-    private List<ChartModel> generateRandomProfitRates(String fromDate, String toDate, List<ChartModel> businessDays) {
-        // 시작일과 종료일 사이의 월 차이를 계산
-        BigDecimal monthsBetween = new BigDecimal(DateUtils.getMonthsDifference(fromDate, toDate));
-
-        // 타겟 수익률을 랜덤하게 설정
-        BigDecimal targetProfitRate = new BigDecimal(Math.random() - RANDOM_OFFSET.doubleValue()).multiply(TARGET_PROFIT_MULTIPLIER)
-                .subtract(RANDOM_VARIATION_RANGE);
-
-        // 이전 월의 수익률 초기화
-        BigDecimal previousMonthlyProfitRate = BigDecimal.ZERO;
-
-        List<ChartModel> profitRateData = new ArrayList<>();
-
-        // 각 월별 수익률을 계산
-        for (int i = 0; i < monthsBetween.intValue(); i++) {
-            // 타겟 수익률을 월별로 분할하여 기준 수익률 설정
-            BigDecimal monthlyProfitRateBase = targetProfitRate.divide(monthsBetween, new MathContext(2)).multiply(new BigDecimal(i + 1));
-
-            // 기준값에서 -1.5 ~ +1.5 범위로 랜덤하게 설정한 월별 수익률
-            BigDecimal monthlyProfitRate = monthlyProfitRateBase
-                    .add(new BigDecimal(Math.random() - RANDOM_OFFSET.doubleValue()).multiply(RANDOM_VARIATION_RANGE, new MathContext(2)));
-
-            // 현재 월의 날짜(년월) 추출
-            String currentYearMonth = DateUtils.plus(fromDate, i, "MONTH").substring(0, 6);
-
-            // 현재 월의 영업일을 추출
-            List<String> currentMonthBusinessDays = new ArrayList<>();
-            for (int k = 0; k < businessDays.size(); k++) {
-                if (businessDays.get(k).getXAxis().substring(0, 6).equals(currentYearMonth)) {
-                    currentMonthBusinessDays.add(businessDays.get(k).getXAxis());
-                }
-            }
-
-            // 각 영업일에 대한 일별 수익률을 계산
-            for (int j = 0, daysInMonth = currentMonthBusinessDays.size(); j < daysInMonth; j++) {
-                // 이전월 수익률 + ((당월 수익률 - 이전월(첫번째달에는 0)) / 일수(daysInMonth) * (j+1))
-                BigDecimal dailyProfitRateBase = previousMonthlyProfitRate
-                        .add(monthlyProfitRate.subtract(previousMonthlyProfitRate).divide(new BigDecimal(daysInMonth * (j + 1)), new MathContext(2)));
-
-                // 일별 수익률에 -3 ~ +3 범위의 랜덤값을 추가
-                BigDecimal dailyProfitRate = dailyProfitRateBase
-                        .add(new BigDecimal(Math.random() - RANDOM_OFFSET.doubleValue()).multiply(RANDOM_VARIATION_RANGE, new MathContext(2)));
-
-                // 일별 수익률을 ChartModel에 저장
-                ChartModel chartModel = new ChartModel();
-                chartModel.setXAxis(currentMonthBusinessDays.get(j));
-                chartModel.setYAxis(dailyProfitRate.setScale(2, RoundingMode.DOWN));
-                profitRateData.add(chartModel);
-
-            }
-
-            // 이전 월 수익률을 업데이트
-            previousMonthlyProfitRate = monthlyProfitRate;
-        }
+    private ChartSeriesOut randomChart(ChartSpecIn spec, BusinessCalendar calendar) {
+        int fromEpochDay = DateUtils.toEpochDay(spec.getFromDate());
+        int toEpochDay = DateUtils.toEpochDay(spec.getToDate());
+
+        ChartSeriesOut chartSeriesOut = new ChartSeriesOut();
+        chartSeriesOut.setId(spec.getId());
+        chartSeriesOut.setData(generate(fromEpochDay, toEpochDay, calendar, spec.getSeed(), spec.getMaxPoints()));
+        return chartSeriesOut;
+    }
 
-        // 첫 번째 수익률을 0으로 설정 (초기값)
-        if (!profitRateData.isEmpty()) {
-            profitRateData.get(0).setYAxis(BigDecimal.ZERO);
-        }
+    /**
+     * 랜덤 수익률 데이터를 생성하고, 최대 데이터 수를 넘으면 LTTB 방식으로 축소
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param toEpochDay   종료 날짜 (epoch day)
+     * @param calendar     영업일 달력
+     * @param seed         난수 시드 ({@code null}이면 임의 생성)
+     * @param maxPoints    최대 데이터 수 ({@code null}이면 축소하지 않음)
+     * @return 생성된 차트 데이터
+     */
+    private ChartSeries generate(int fromEpochDay, int toEpochDay, BusinessCalendar calendar, Long seed, Integer maxPoints) {
+        int pointCount = ChartGenerator.pointCount(fromEpochDay, toEpochDay, calendar);
 
+        ChartSeries profitRateData = new ChartSeries(ChartDownsampler.outputSize(pointCount, maxPoints));
+        ChartGenerator.generate(fromEpochDay, toEpochDay, calendar, randomGenerator(seed),
+                ChartDownsampler.downsample(profitRateData, pointCount, maxPoints));
         return profitRateData;
     }
+
+    /**
+     * 공휴일 정보를 캐시(또는 API)로부터 가져와 영업일 달력을 구성
+     * 
+     * <p>
+     * 기간이 여러 해에 걸친 경우 해당 연도들의 공휴일을 모두 반영합니다.
+     * </p>
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param toEpochDay   종료 날짜 (epoch day)
+     * @return 영업일 달력
+     */
+    private BusinessCalendar getBusinessCalendar(int fromEpochDay, int toEpochDay) {
+        return holidayService.getBusinessCalendar(year(fromEpochDay), year(toEpochDay));
+    }
+
+    /**
+     * epoch day의 연도를 반환합니다.
+     *
+     * @param epochDay epoch day
+     * @return 연도
+     */
+    private static int year(int epochDay) {
+        return DateUtils.toDateInt(epochDay) / 10000;
+    }
+
+    /**
+     * 차트 생성에 사용할 난수 생성기를 반환합니다.
+     *
+     * <p>
+     * 시드가 있으면 요청마다 새로운 {@link SplittableRandom}을 생성하여 같은 시드에 대해 항상 같은 결과를 생성하고, 없으면
+     * 스레드별 {@link ThreadLocalRandom}을 사용합니다. 어느 경우든 스레드 간 경합이 발생하지 않습니다.
+     * </p>
+     *
+     * @param seed 난수 시드 ({@code null}이면 임의 생성)
+     * @return 난수 생성기
+     */
+    private static RandomGenerator randomGenerator(Long seed) {
+        return seed == null ? ThreadLocalRandom.current() : new SplittableRandom(seed);
+    }
 }
@@ -0,0 +1,433 @@
+package com.func.functional.biz.chart.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Service;
+
+import com.func.functional.biz.chart.codec.HolidayResponseDecoder;
+import com.func.functional.biz.chart.model.HolidayDates;
+import com.func.functional.biz.client.ApiClient;
+import com.func.functional.configs.properties.ApiServerConfigProperties;
+import com.func.functional.configs.properties.HolidayConfigProperties;
+import com.func.functional.utils.BusinessCalendar;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * HolidayService
+ *
+ * <p>
+ * 공휴일 API 조회 결과를 연도별로 캐시합니다. 유효 기간이 끝나기 전에 백그라운드에서 미리 갱신하며(refresh-ahead), 만료된
+ * 후에도 허용 기간 동안은 기존 정보를 바로 반환하고 백그라운드에서 갱신합니다(stale-while-revalidate). 조회에 실패한 연도는
+ * 일정 시간 동안 다시 조회하지 않으므로, API 장애 중에 요청마다 응답 제한 시간을 기다리지 않습니다. API 호출은 논블로킹으로 수행하므로 여러 연도를
+ * 조회하거나 백그라운드에서 갱신하는 동안 스레드를 점유하지 않습니다. 연도별 영업일 달력도 함께 캐시하며, 여러 해에 걸친 달력은
+ * 이를 이어 붙여 구성합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidayService {
+
+    /** ApiClient */
+    private final ApiClient apiClient;
+
+    /** ApiServer */
+    private final ApiServerConfigProperties apiServerConfigProperties;
+
+    /** 공휴일 캐시 설정 */
+    private final HolidayConfigProperties holidayConfigProperties;
+
+    /** MeterRegistry */
+    private final MeterRegistry meterRegistry;
+
+    /** 공휴일이 없는 경우 */
+    private static final int[] NO_HOLIDAYS = new int[0];
+
+    /** 연도별 공휴일 캐시 */
+    private final Map<Integer, HolidayEntry> cache = new ConcurrentHashMap<>();
+
+    /** 조회에 실패한 연도별로 다시 조회할 수 있는 시각 (epoch millis) */
+    private final Map<Integer, Long> retryAt = new ConcurrentHashMap<>();
+
+    // 캐시 지표
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder staleCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
+
+    /**
+     * 캐시 지표를 MeterRegistry에 등록합니다.
+     */
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("holiday.cache.gets", hitCount, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("holiday.cache.gets", missCount, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("holiday.cache.gets", staleCount, LongAdder::sum).tag("result", "stale").register(meterRegistry);
+        FunctionCounter.builder("holiday.cache.gets", failedCount, LongAdder::sum).tag("result", "failed").register(meterRegistry);
+        FunctionCounter.builder("holiday.cache.refreshes", refreshCount, LongAdder::sum).tag("result", "success").register(meterRegistry);
+        FunctionCounter.builder("holiday.cache.refreshes", refreshFailureCount, LongAdder::sum).tag("result", "failure").register(meterRegistry);
+        Gauge.builder("holiday.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 해당 연도의 공휴일 날짜를 반환합니다. ({@link #getHolidaysAsync(int)}의 결과를 기다림)
+     *
+     * @param year 조회할 연도
+     * @return 오름차순으로 정렬된 공휴일 (epoch day)
+     */
+    public int[] getHolidays(int year) {
+        return getHolidaysAsync(year).block();
+    }
+
+    /**
+     * 해당 연도의 공휴일 날짜를 비동기로 반환합니다.
+     *
+     * @param year 조회할 연도
+     * @return 오름차순으로 정렬된 공휴일 (epoch day)
+     */
+    public Mono<int[]> getHolidaysAsync(int year) {
+        return getEntryAsync(year).map(HolidayEntry::holidays).defaultIfEmpty(NO_HOLIDAYS);
+    }
+
+    /**
+     * 주어진 기간(연도 범위)의 공휴일을 반영한 영업일 달력을 반환합니다. ({@link #getBusinessCalendarAsync(int, int)}의 결과를
+     * 기다림)
+     *
+     * @param fromYear 시작 연도
+     * @param toYear   종료 연도
+     * @return 영업일 달력
+     * @throws IllegalArgumentException 기간이 최대 연도 수를 넘는 경우
+     */
+    public BusinessCalendar getBusinessCalendar(int fromYear, int toYear) {
+        return getBusinessCalendarAsync(fromYear, toYear).block();
+    }
+
+    /**
+     * 주어진 기간(연도 범위)의 공휴일을 반영한 영업일 달력을 비동기로 반환합니다.
+     *
+     * <p>
+     * 캐시되지 않은 연도는 {@code holiday.fetch-concurrency}개씩 동시에 조회하므로, 모두 캐시되지 않은 경우 (연도 수 / 동시 조회
+     * 수)를 올림한 횟수만큼의 API 왕복 시간이 걸립니다. (기본값: 10년 기간까지 1회, 30년 기간 3회) 기간은
+     * {@code holiday.max-years}개 연도로 제한됩니다.
+     * </p>
+     *
+     * @param fromYear 시작 연도
+     * @param toYear   종료 연도
+     * @return 영업일 달력 (기간이 최대 연도 수를 넘으면 {@link IllegalArgumentException})
+     */
+    public Mono<BusinessCalendar> getBusinessCalendarAsync(int fromYear, int toYear) {
+        return getHolidayCalendarAsync(fromYear, toYear).map(HolidayCalendar::calendar);
+    }
+
+    /**
+     * 주어진 기간(연도 범위)의 영업일 달력과 공휴일 정보의 상태를 반환합니다. ({@link #getHolidayCalendarAsync(int, int)}의
+     * 결과를 기다림)
+     *
+     * @param fromYear 시작 연도
+     * @param toYear   종료 연도
+     * @return 영업일 달력과 공휴일 정보의 상태
+     * @throws IllegalArgumentException 기간이 최대 연도 수를 넘는 경우
+     */
+    public HolidayCalendar getHolidayCalendar(int fromYear, int toYear) {
+        return getHolidayCalendarAsync(fromYear, toYear).block();
+    }
+
+    /**
+     * 주어진 기간(연도 범위)의 영업일 달력과 공휴일 정보의 상태를 비동기로 반환합니다.
+     *
+     * <p>
+     * 공휴일을 조회하지 못한 연도가 있으면 주말만 제외한 달력을 {@link HolidayCalendar#degraded()}로 표시하여 반환하므로,
+     * 호출하는 쪽은 그 달력으로 만든 결과를 캐시하지 않을 수 있습니다.
+     * </p>
+     *
+     * @param fromYear 시작 연도
+     * @param toYear   종료 연도
+     * @return 영업일 달력과 공휴일 정보의 상태 (기간이 최대 연도 수를 넘으면 {@link IllegalArgumentException})
+     */
+    public Mono<HolidayCalendar> getHolidayCalendarAsync(int fromYear, int toYear) {
+        if (fromYear >= toYear) {
+            return getYearCalendarAsync(fromYear);
+        }
+        return getHolidayCalendarsAsync(List.of(new YearRange(fromYear, toYear))).map(calendars -> calendars.get(0));
+    }
+
+    /**
+     * 여러 기간(연도 범위)의 영업일 달력을 한 번에 반환합니다. ({@link #getBusinessCalendarsAsync(List)}의 결과를 기다림)
+     *
+     * @param yearRanges 기간 목록
+     * @return 기간별 영업일 달력 (요청 순서)
+     * @throws IllegalArgumentException 기간들이 포함하는 연도 수가 최대 연도 수를 넘는 경우
+     */
+    public List<BusinessCalendar> getBusinessCalendars(List<YearRange> yearRanges) {
+        return getBusinessCalendarsAsync(yearRanges).block();
+    }
+
+    /**
+     * 여러 기간(연도 범위)의 영업일 달력을 한 번에 비동기로 반환합니다.
+     *
+     * <p>
+     * 기간들이 포함하는 연도만 조회하며, 여러 기간에 포함된 연도도 한 번만 조회합니다. 기간 사이의 연도(예: 1990년과 2020년의
+     * 사이)는 조회하지 않습니다. 조회할 연도 수는 {@code holiday.max-years}개로 제한됩니다.
+     * </p>
+     *
+     * @param yearRanges 기간 목록 (종료 연도가 시작 연도보다 앞서면 시작 연도만 포함)
+     * @return 기간별 영업일 달력 (요청 순서, 연도 수가 최대 연도 수를 넘으면 {@link IllegalArgumentException})
+     */
+    public Mono<List<BusinessCalendar>> getBusinessCalendarsAsync(List<YearRange> yearRanges) {
+        return getHolidayCalendarsAsync(yearRanges).map(calendars -> calendars.stream().map(HolidayCalendar::calendar).toList());
+    }
+
+    /**
+     * 여러 기간(연도 범위)의 영업일 달력과 공휴일 정보의 상태를 한 번에 비동기로 반환합니다.
+     *
+     * @param yearRanges 기간 목록 (종료 연도가 시작 연도보다 앞서면 시작 연도만 포함)
+     * @return 기간별 영업일 달력과 공휴일 정보의 상태 (요청 순서, 연도 수가 최대 연도 수를 넘으면 {@link IllegalArgumentException})
+     */
+    private Mono<List<HolidayCalendar>> getHolidayCalendarsAsync(List<YearRange> yearRanges) {
+        // 기간들이 포함하는 연도 (중복 제거)
+        int maxYears = holidayConfigProperties.getMaxYears();
+        SortedSet<Integer> years = new TreeSet<>();
+        for (YearRange yearRange : yearRanges) {
+            if ((long) yearRange.lastYear() - yearRange.fromYear() + 1 > maxYears) {
+                return Mono.error(new IllegalArgumentException(
+                        "Date range spans too many years: " + yearRange.fromYear() + "-" + yearRange.toYear() + " (max " + maxYears + ")"));
+            }
+            for (int year = yearRange.fromYear(); year <= yearRange.lastYear(); year++) {
+                years.add(year);
+            }
+            if (years.size() > maxYears) {
+                return Mono.error(new IllegalArgumentException("Date ranges cover too many years: more than " + maxYears));
+            }
+        }
+
+        return Flux.fromIterable(years)
+                .flatMap(this::getYearCalendarAsync, Math.max(holidayConfigProperties.getFetchConcurrency(), 1))
+                .collectMap(calendar -> calendar.calendar().getFirstYear())
+                .map(calendarsByYear -> {
+                    // 연도별로 캐시된 달력을 이어 붙임 (같은 기간은 한 번만)
+                    Map<YearRange, HolidayCalendar> calendars = new HashMap<>();
+                    return yearRanges.stream()
+                            .map(yearRange -> calendars.computeIfAbsent(yearRange, range -> HolidayCalendar.compose(
+                                    IntStream.rangeClosed(range.fromYear(), range.lastYear()).mapToObj(calendarsByYear::get).toList())))
+                            .toList();
+                });
+    }
+
+    /**
+     * 해당 연도의 영업일 달력을 비동기로 반환합니다.
+     *
+     * @param year 조회할 연도
+     * @return 해당 연도의 영업일 달력 (공휴일을 조회하지 못한 경우 주말만 제외하고 {@code degraded}로 표시)
+     */
+    private Mono<HolidayCalendar> getYearCalendarAsync(int year) {
+        return getEntryAsync(year).map(entry -> new HolidayCalendar(entry.calendar(), false, entry.version()))
+                .switchIfEmpty(Mono.fromSupplier(() -> new HolidayCalendar(new BusinessCalendar(year, year, NO_HOLIDAYS), true, 0)));
+    }
+
+    /**
+     * 해당 연도의 캐시 항목을 비동기로 반환합니다.
+     *
+     * <p>
+     * 캐시가 유효하면 API를 호출하지 않으며, 갱신 시점이 지났으면 백그라운드 갱신을 시작합니다. 만료되었더라도 허용 기간 내라면 기존
+     * 정보를 바로 반환하고 백그라운드에서 갱신합니다. 캐시에 없거나 허용 기간이 지난 경우에만 조회를 기다리며, 최근에 조회에 실패한
+     * 연도는 {@code holiday.retry-after-failure} 동안 조회하지 않습니다.
+     * </p>
+     *
+     * @param year 조회할 연도
+     * @return 캐시 항목 (조회에 실패하고 사용할 수 있는 기존 정보가 없으면 비어 있음)
+     */
+    private Mono<HolidayEntry> getEntryAsync(int year) {
+        long now = System.currentTimeMillis();
+        HolidayEntry entry = cache.get(year);
+
+        if (entry != null && now < entry.expiresAt()) {
+            hitCount.increment();
+
+            // 만료 전 갱신 시점이 지났으면 백그라운드에서 미리 갱신
+            if (now >= entry.refreshAt()) {
+                scheduleRefresh(year, entry);
+            }
+            return Mono.just(entry);
+        }
+
+        // 허용 기간 내라면 만료된 정보를 바로 반환하고 백그라운드에서 갱신
+        if (entry != null && now < entry.expiresAt() + holidayConfigProperties.getMaxStale().toMillis()) {
+            staleCount.increment();
+            scheduleRefresh(year, entry);
+            return Mono.just(entry);
+        }
+
+        // 최근에 조회에 실패했으면 다시 호출하지 않음
+        if (now < retryAt.getOrDefault(year, 0L)) {
+            failedCount.increment();
+            return Mono.empty();
+        }
+
+        missCount.increment();
+        return load(year).doOnNext(loaded -> {
+            if (entry != null) {
+                refreshCount.increment();
+            }
+        }).onErrorResume(RuntimeException.class, e -> {
+            if (entry != null) {
+                refreshFailureCount.increment();
+            }
+            if (log.isErrorEnabled()) {
+                log.error("Failed to load holidays for {}: {}", year, e.getMessage(), e);
+            }
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * 백그라운드 갱신을 시작합니다. 동일한 항목에 대해서는 한 번만 시작되며, 최근에 조회에 실패했으면 시작하지 않습니다.
+     *
+     * @param year  갱신할 연도
+     * @param entry 현재 캐시 항목
+     */
+    private void scheduleRefresh(int year, HolidayEntry entry) {
+        if (System.currentTimeMillis() < retryAt.getOrDefault(year, 0L) || !entry.refreshing().compareAndSet(false, true)) {
+            return;
+        }
+
+        load(year).subscribe(loaded -> refreshCount.increment(), e -> {
+            refreshFailureCount.increment();
+            entry.refreshing().set(false);
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to refresh holidays for {}: {}", year, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * API를 호출하여 해당 연도의 공휴일을 조회하고 캐시에 저장합니다. 조회에 실패하면 다시 조회할 수 있는 시각을 기록합니다.
+     *
+     * @param year 조회할 연도
+     * @return 새로 저장된 캐시 항목
+     */
+    private Mono<HolidayEntry> load(int year) {
+        return getHolidaysFromApi(year).map(holidays -> {
+            long now = System.currentTimeMillis();
+            long expiresAt = now + holidayConfigProperties.getCacheTtl().toMillis();
+            long refreshAt = expiresAt - holidayConfigProperties.getRefreshAhead().toMillis();
+
+            // 해당 연도의 영업일 달력은 저장할 때 한 번만 구성
+            HolidayEntry entry = new HolidayEntry(holidays, new BusinessCalendar(year, year, holidays), version(year, holidays), refreshAt, expiresAt,
+                    new AtomicBoolean(false));
+            cache.put(year, entry);
+            retryAt.remove(year);
+            return entry;
+        }).doOnError(e -> retryAt.put(year, System.currentTimeMillis() + holidayConfigProperties.getRetryAfterFailure().toMillis()));
+    }
+
+    /**
+     * API를 호출하여 해당 연도의 공휴일 데이터를 가져옴
+     *
+     * <p>
+     * 응답 본문은 {@link HolidayResponseDecoder}가 받는 대로 읽어 공휴일 날짜만 추출합니다.
+     * </p>
+     *
+     * @param year 조회할 연도
+     * @return 오름차순으로 정렬된 공휴일 (epoch day)
+     */
+    private Mono<int[]> getHolidaysFromApi(int year) {
+        // 공휴일 정보를 가져오기 위한 API 호출
+        return Mono.defer(() -> apiClient.getAsync("getHoliDeInfo", Map.of("solYear", String.valueOf(year), "_type", "json", "numOfRows", "100",
+                "ServiceKey", apiServerConfigProperties.getApiKey("holidayInfo")), HolidayDates.class))
+                .map(HolidayDates::epochDays);
+    }
+
+    /**
+     * 해당 연도의 공휴일 정보를 나타내는 버전을 계산합니다. 같은 공휴일이면 갱신되거나 다른 서버에서 조회해도 같은 값입니다.
+     *
+     * @param year     연도
+     * @param holidays 오름차순으로 정렬된 공휴일 (epoch day)
+     * @return 버전
+     */
+    private static long version(int year, int[] holidays) {
+        long version = year;
+        for (int holiday : holidays) {
+            version = version * 31 + holiday;
+        }
+        return version;
+    }
+
+    /**
+     * 공휴일을 반영한 영업일 달력과 공휴일 정보의 상태
+     *
+     * @param calendar 영업일 달력
+     * @param degraded 공휴일을 조회하지 못해 주말만 제외한 연도가 있으면 {@code true} (결과를 캐시하지 않아야 함)
+     * @param version  달력에 반영된 공휴일 정보의 버전 (공휴일이 같으면 같은 값, {@code degraded}이면 의미 없음)
+     */
+    public record HolidayCalendar(BusinessCalendar calendar, boolean degraded, long version) {
+
+        /**
+         * 연속된 연도의 달력을 이어 붙입니다.
+         *
+         * @param calendars 연도 순서의 달력 목록
+         * @return 이어 붙인 달력
+         */
+        static HolidayCalendar compose(List<HolidayCalendar> calendars) {
+            if (calendars.size() == 1) {
+                return calendars.get(0);
+            }
+
+            boolean degraded = false;
+            long version = 0;
+            for (HolidayCalendar calendar : calendars) {
+                degraded |= calendar.degraded();
+                version = version * 31 + calendar.version();
+            }
+            return new HolidayCalendar(BusinessCalendar.compose(calendars.stream().map(HolidayCalendar::calendar).toList()), degraded, version);
+        }
+    }
+
+    /**
+     * 연도 범위
+     *
+     * @param fromYear 시작 연도
+     * @param toYear   종료 연도
+     */
+    public record YearRange(int fromYear, int toYear) {
+
+        /**
+         * 마지막 연도를 반환합니다.
+         *
+         * @return 종료 연도 (시작 연도보다 앞서면 시작 연도)
+         */
+        int lastYear() {
+            return Math.max(fromYear, toYear);
+        }
+    }
+
+    /**
+     * 연도별 공휴일 캐시 항목
+     *
+     * @param holidays   오름차순으로 정렬된 공휴일 (epoch day)
+     * @param calendar   해당 연도의 영업일 달력 (비트셋과 누적 영업일 수)
+     * @param version    공휴일 정보의 버전
+     * @param refreshAt  백그라운드 갱신을 시작할 시각 (epoch millis)
+     * @param expiresAt  만료 시각 (epoch millis)
+     * @param refreshing 백그라운드 갱신 진행 여부
+     */
+    private record HolidayEntry(int[] holidays, BusinessCalendar calendar, long version, long refreshAt, long expiresAt, AtomicBoolean refreshing) {
+    }
+}
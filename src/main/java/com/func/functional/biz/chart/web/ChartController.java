@@ -1,18 +1,44 @@
 package com.func.functional.biz.chart.web;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.func.functional.biz.chart.codec.ChartBinaryCodec;
+import com.func.functional.biz.chart.model.ChartBatchIn;
+import com.func.functional.biz.chart.model.ChartBatchOut;
 import com.func.functional.biz.chart.model.ChartModel;
+import com.func.functional.biz.chart.service.ChartDownsampler;
+import com.func.functional.biz.chart.service.ChartResponseCache;
+import com.func.functional.biz.chart.service.ChartResponseCache.CachedChart;
 import com.func.functional.biz.chart.service.ChartService;
+import com.func.functional.biz.chart.service.HolidayService.HolidayCalendar;
+import com.func.functional.utils.DateUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 
@@ -32,20 +58,168 @@ public class ChartController {
     /** RandomGraphService */
     private final ChartService chartService;
 
+    /** 차트 응답 캐시 */
+    private final ChartResponseCache chartResponseCache;
+
     /**
      * 주어진 기간에 대한 랜덤 차트를 생성합니다.
      * 
-     * @param fromDate 시작 날짜 (yyyyMMdd 형식)
-     * @param toDate   종료 날짜 (yyyyMMdd 형식)
+     * @param fromDate  시작 날짜 (yyyyMMdd 형식)
+     * @param toDate    종료 날짜 (yyyyMMdd 형식)
+     * @param seed      난수 시드 (선택)
+     * @param maxPoints 최대 데이터 수 (선택)
+     * @param accept    Accept 헤더
+     * @param request   요청 객체 (조건부 요청 처리)
      * @return 주어진 기간에 해당하는 랜덤 차트를 반환합니다.
      */
-    @Operation(summary = "randomChart")
+    @Operation(summary = "randomChart", description = "Accept: application/x-chart-binary 헤더로 요청하면 압축된 바이너리 형식으로 응답합니다. "
+            + "시드를 지정하면 ETag를 포함하며, If-None-Match 헤더의 값과 같으면 차트를 생성하지 않고 304로 응답합니다. "
+            + "공휴일 정보를 조회하지 못한 경우에는 캐시하지 않고 ETag를 포함하지 않습니다.")
+    @ApiResponse(responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ChartModel.class))))
+    @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content)
     @GetMapping("/random/chart")
-    public List<ChartModel> randomChart(
+    public ResponseEntity<?> randomChart(
             @Parameter(description = "시작일자", example = "20240101") @RequestParam(name = "fromDate", required = true) @NotNull String fromDate,
-            @Parameter(description = "종료일자", example = "20241231") @RequestParam(name = "toDate", required = true) @NotNull String toDate) {
+            @Parameter(description = "종료일자", example = "20241231") @RequestParam(name = "toDate", required = true) @NotNull String toDate,
+            @Parameter(description = "난수 시드 (같은 기간과 시드는 항상 같은 차트를 반환)", example = "4885") @RequestParam(name = "seed", required = false) Long seed,
+            @Parameter(description = "최대 데이터 수 (초과하면 LTTB 방식으로 축소)", example = "600") @RequestParam(name = "maxPoints", required = false) @Min(3) Integer maxPoints,
+            @Parameter(hidden = true) @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true) WebRequest request) {
+
+        // 시드가 없으면 매번 다른 차트이므로 캐시하지 않음
+        if (seed == null || !chartResponseCache.isEnabled()) {
+            return ResponseEntity.ok(chartService.randomChart(fromDate, toDate, seed, maxPoints));
+        }
+
+        // 공휴일을 조회하지 못해 주말만 제외한 달력이면 API가 복구된 후 올바른 차트를 반환하도록 캐시하지 않음
+        HolidayCalendar holidayCalendar = chartService.getHolidayCalendar(fromDate, toDate);
+        if (holidayCalendar.degraded()) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(chartService.randomChart(fromDate, toDate, seed, maxPoints, holidayCalendar.calendar()));
+        }
+
+        MediaType mediaType = selectMediaType(accept);
+        ChartResponseCache.Key key = new ChartResponseCache.Key(DateUtils.toEpochDay(fromDate), DateUtils.toEpochDay(toDate), seed,
+                maxPoints == null ? 0 : Math.max(maxPoints, ChartDownsampler.MIN_POINTS), mediaType, holidayCalendar.version());
+
+        // If-None-Match가 일치하면 차트를 생성하지 않고 304 응답
+        String eTag = chartResponseCache.eTag(key);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
 
-        return chartService.randomChart(fromDate, toDate);
+        CachedChart cachedChart = chartResponseCache.get(key, () -> chartService.randomChart(fromDate, toDate, seed, maxPoints, holidayCalendar.calendar()));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(cachedChart.mediaType())
+                .body(cachedChart.body());
+    }
+
+    /**
+     * Accept 헤더로 캐시할 응답 형식(바이너리 또는 JSON)을 결정합니다.
+     * 
+     * <p>
+     * 품질 값(q)과 구체성 순서로 정렬한 후 처음으로 받을 수 있는 형식을 선택합니다. 바이너리 형식은 명시한 경우에만 선택하며
+     * ({@code q=0}이면 제외), 와일드카드나 헤더가 없거나 잘못된 경우에는 JSON으로 응답합니다.
+     * </p>
+     * 
+     * @param accept Accept 헤더
+     * @return 응답 형식
+     */
+    private static MediaType selectMediaType(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+            for (MediaType mediaType : mediaTypes) {
+                if (mediaType.getQualityValue() <= 0) {
+                    continue;
+                }
+                if (mediaType.equalsTypeAndSubtype(ChartBinaryCodec.MEDIA_TYPE)) {
+                    return ChartBinaryCodec.MEDIA_TYPE;
+                }
+                if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                    return MediaType.APPLICATION_JSON;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // 잘못된 Accept 헤더는 JSON으로 응답
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * 주어진 기간에 대한 랜덤 차트를 NDJSON 형식으로 스트리밍합니다.
+     * 
+     * <p>
+     * {@code Accept: application/x-ndjson} 헤더로 요청하면 생성되는 즉시 한 줄씩 응답하므로, 기간의 길이와 관계없이 요청당
+     * 메모리 사용량이 일정합니다.
+     * </p>
+     * 
+     * @param fromDate  시작 날짜 (yyyyMMdd 형식)
+     * @param toDate    종료 날짜 (yyyyMMdd 형식)
+     * @param seed      난수 시드 (선택)
+     * @param maxPoints 최대 데이터 수 (선택)
+     * @param response  응답 객체
+     * @throws IOException 응답 출력 중 발생할 수 있는 예외
+     */
+    @Operation(summary = "randomChart (NDJSON stream)")
+    @GetMapping(value = "/random/chart", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void randomChartStream(
+            @Parameter(description = "시작일자", example = "20240101") @RequestParam(name = "fromDate", required = true) @NotNull String fromDate,
+            @Parameter(description = "종료일자", example = "20241231") @RequestParam(name = "toDate", required = true) @NotNull String toDate,
+            @Parameter(description = "난수 시드 (같은 기간과 시드는 항상 같은 차트를 반환)", example = "4885") @RequestParam(name = "seed", required = false) Long seed,
+            @Parameter(description = "최대 데이터 수 (초과하면 LTTB 방식으로 축소)", example = "600") @RequestParam(name = "maxPoints", required = false) @Min(3) Integer maxPoints,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        chartService.streamRandomChart(fromDate, toDate, seed, maxPoints, response.getOutputStream());
+    }
+
+    /**
+     * 주어진 기간에 대한 랜덤 차트를 NDJSON 형식으로 스트리밍합니다. ({@code stream=true} 파라미터로 요청)
+     * 
+     * @param fromDate  시작 날짜 (yyyyMMdd 형식)
+     * @param toDate    종료 날짜 (yyyyMMdd 형식)
+     * @param seed      난수 시드 (선택)
+     * @param maxPoints 최대 데이터 수 (선택)
+     * @param response  응답 객체
+     * @throws IOException 응답 출력 중 발생할 수 있는 예외
+     */
+    @Operation(summary = "randomChart (NDJSON stream, stream=true)")
+    @GetMapping(value = "/random/chart", params = "stream=true")
+    public void randomChartStreamParam(
+            @Parameter(description = "시작일자", example = "20240101") @RequestParam(name = "fromDate", required = true) @NotNull String fromDate,
+            @Parameter(description = "종료일자", example = "20241231") @RequestParam(name = "toDate", required = true) @NotNull String toDate,
+            @Parameter(description = "난수 시드 (같은 기간과 시드는 항상 같은 차트를 반환)", example = "4885") @RequestParam(name = "seed", required = false) Long seed,
+            @Parameter(description = "최대 데이터 수 (초과하면 LTTB 방식으로 축소)", example = "600") @RequestParam(name = "maxPoints", required = false) @Min(3) Integer maxPoints,
+            HttpServletResponse response) throws IOException {
+
+        randomChartStream(fromDate, toDate, seed, maxPoints, response);
+    }
+
+    /**
+     * 여러 랜덤 차트를 한 번에 생성합니다.
+     * 
+     * <p>
+     * 공휴일 정보는 차트들의 기간이 포함하는 연도만 한 번씩 조회하고 각 차트는 병렬로 생성하므로, 차트마다 요청하는 것보다 왕복
+     * 횟수와 공휴일 API 호출을 줄일 수 있습니다. 차트 수는 최대 {@value ChartBatchIn#MAX_SERIES}개, 차트들이 포함하는 연도 수는
+     * {@code holiday.max-years}개로 제한됩니다.
+     * </p>
+     * 
+     * @param args 차트 생성 조건 목록
+     * @return 요청 순서대로 생성된 차트 목록을 반환합니다.
+     */
+    @Operation(summary = "randomCharts", description = "Accept: application/x-chart-binary 헤더로 요청하면 압축된 바이너리 형식으로 응답합니다.")
+    @PostMapping("/random/charts")
+    public ChartBatchOut randomCharts(@RequestBody @Valid ChartBatchIn args) {
+        return chartService.randomCharts(args);
     }
 
 }
@@ -1,28 +1,36 @@
 package com.func.functional.biz.client;
 
-import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.func.functional.configs.properties.ApiServerConfigProperties;
+import com.func.functional.configs.properties.ApiServerConfigProperties.ApiServer;
+import com.func.functional.configs.properties.ApiServerConfigProperties.ResolvedEndpoint;
 import com.func.functional.http.client.HttpClient;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * ApiClient는 HTTP 요청을 수행하기 위한 클라이언트입니다.
  * 
  * <p>
  * 이 클래스는 HTTP GET, POST, PUT, DELETE 요청을 간편하게 수행할 수 있는 메소드를 제공합니다. 요청 시 URI와 쿼리
- * 파라미터를 자동으로 구성하여 최종 URL을 생성합니다.
+ * 파라미터를 자동으로 구성하여 최종 URL을 생성합니다. {@code xxxAsync} 메소드는 응답을 기다리지 않고 {@link Mono}를
+ * 반환합니다. 요청은 엔드포인트를 제공하는 API 서버 전용 커넥션 풀을 통해 수행됩니다. {@code coalesce}가 설정된
+ * 엔드포인트는 동시에 진행 중인 동일한 GET 요청을 하나로 합치고, {@code cache}가 설정된 엔드포인트는 응답 캐시를 사용합니다.
+ * {@code hedge}가 설정된 엔드포인트는 외부 API의 응답이 늦어지면 같은 요청을 한 번 더 보냅니다.
  * </p>
  */
 @Slf4j
@@ -36,17 +44,30 @@ public class ApiClient {
     /** API 서버의 기본 속성 정보를 관리하는 클래스 */
     private final ApiServerConfigProperties apiServerConfigProperties;
 
+    /** MeterRegistry */
+    private final MeterRegistry meterRegistry;
+
+    /** 진행 중인 GET 요청 (요청 병합용) */
+    private final Map<InFlightKey, Mono<?>> inFlightRequests = new ConcurrentHashMap<>();
+
+    /** 엔드포인트별 응답 시간 기록 (추가 요청 대기 시간 계산용) */
+    private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+    /** 서버별 추가 요청 예산 */
+    private final Map<String, HedgeBudget> hedgeBudgets = new ConcurrentHashMap<>();
+
     /**
      * 주어진 URI와 쿼리 파라미터를 사용하여 GET 요청을 수행합니다.
      * 
      * @param apiEndpoint     요청할 API의 엔드포인트
-     * @param queryParameters 쿼리 파라미터를 담고 있는 객체 (Map 또는 Bean)
+     * @param queryParameters 쿼리 파라미터를 담고 있는 객체 (Map, Bean 또는 record)
      * @param responseType    응답의 타입
      * @param <T>             응답 타입
      * @return 요청에 대한 응답
      */
     public <T> T get(String apiEndpoint, Object queryParameters, Class<T> responseType) {
-	return client.request(HttpMethod.GET, generateRequestUri(apiEndpoint, queryParameters), null, responseType);
+	ResolvedEndpoint endpoint = resolve(apiEndpoint);
+	return requestGet(endpoint, generateRequestUri(endpoint, queryParameters), responseType).block(); // 응답을 블로킹 방식으로 기다림
     }
 
     /**
@@ -59,7 +80,8 @@ public class ApiClient {
      * @return 요청에 대한 응답
      */
     public <T> T post(String apiEndpoint, Object requestPayload, Class<T> responseType) {
-	return client.request(HttpMethod.POST, generateRequestUri(apiEndpoint, null), requestPayload, responseType);
+	ResolvedEndpoint endpoint = resolve(apiEndpoint);
+	return client.request(endpoint, HttpMethod.POST, generateRequestUri(endpoint, null), requestPayload, responseType);
     }
 
     /**
@@ -72,7 +94,8 @@ public class ApiClient {
      * @return 요청에 대한 응답
      */
     public <T> T put(String apiEndpoint, Object requestPayload, Class<T> responseType) {
-	return client.request(HttpMethod.PUT, generateRequestUri(apiEndpoint, null), requestPayload, responseType);
+	ResolvedEndpoint endpoint = resolve(apiEndpoint);
+	return client.request(endpoint, HttpMethod.PUT, generateRequestUri(endpoint, null), requestPayload, responseType);
     }
 
     /**
@@ -85,20 +108,244 @@ public class ApiClient {
      * @return 요청에 대한 응답
      */
     public <T> T delete(String apiEndpoint, Object requestPayload, Class<T> responseType) {
-	return client.request(HttpMethod.DELETE, generateRequestUri(apiEndpoint, null), requestPayload, responseType);
+	ResolvedEndpoint endpoint = resolve(apiEndpoint);
+	return client.request(endpoint, HttpMethod.DELETE, generateRequestUri(endpoint, null), requestPayload, responseType);
     }
 
     /**
-     * URI와 쿼리 파라미터를 결합하여 전체 URL을 생성합니다.
+     * 주어진 URI와 쿼리 파라미터를 사용하여 GET 요청을 논블로킹으로 수행합니다.
      * 
      * @param apiEndpoint     요청할 API의 엔드포인트
-     * @param queryParameters 쿼리 파라미터를 담고 있는 객체 (Map 또는 Bean)
+     * @param queryParameters 쿼리 파라미터를 담고 있는 객체 (Map, Bean 또는 record)
+     * @param responseType    응답의 타입
+     * @param <T>             응답 타입
+     * @return 요청에 대한 응답을 발행하는 Mono
+     */
+    public <T> Mono<T> getAsync(String apiEndpoint, Object queryParameters, Class<T> responseType) {
+	ResolvedEndpoint endpoint = resolve(apiEndpoint);
+	return requestGet(endpoint, generateRequestUri(endpoint, queryParameters), responseType);
+    }
+
+    /**
+     * 주어진 URI와 요청 본문을 사용하여 POST 요청을 논블로킹으로 수행합니다.
+     * 
+     * @param apiEndpoint    요청할 API의 엔드포인트
+     * @param requestPayload 요청 본문 객체
+     * @param responseType   응답의 타입
+     * @param <T>            응답 타입
+     * @return 요청에 대한 응답을 발행하는 Mono
+     */
+    public <T> Mono<T> postAsync(String apiEndpoint, Object requestPayload, Class<T> responseType) {
+	ResolvedEndpoint endpoint = resolve(apiEndpoint);
+	return client.requestAsync(endpoint, HttpMethod.POST, generateRequestUri(endpoint, null), requestPayload, responseType);
+    }
+
+    /**
+     * 주어진 URI와 요청 본문을 사용하여 PUT 요청을 논블로킹으로 수행합니다.
+     * 
+     * @param apiEndpoint    요청할 API의 엔드포인트
+     * @param requestPayload 요청 본문 객체
+     * @param responseType   응답의 타입
+     * @param <T>            응답 타입
+     * @return 요청에 대한 응답을 발행하는 Mono
+     */
+    public <T> Mono<T> putAsync(String apiEndpoint, Object requestPayload, Class<T> responseType) {
+	ResolvedEndpoint endpoint = resolve(apiEndpoint);
+	return client.requestAsync(endpoint, HttpMethod.PUT, generateRequestUri(endpoint, null), requestPayload, responseType);
+    }
+
+    /**
+     * 주어진 URI와 요청 본문을 사용하여 DELETE 요청을 논블로킹으로 수행합니다.
+     * 
+     * @param apiEndpoint    요청할 API의 엔드포인트
+     * @param requestPayload 요청 본문 객체
+     * @param responseType   응답의 타입
+     * @param <T>            응답 타입
+     * @return 요청에 대한 응답을 발행하는 Mono
+     */
+    public <T> Mono<T> deleteAsync(String apiEndpoint, Object requestPayload, Class<T> responseType) {
+	ResolvedEndpoint endpoint = resolve(apiEndpoint);
+	return client.requestAsync(endpoint, HttpMethod.DELETE, generateRequestUri(endpoint, null), requestPayload, responseType);
+    }
+
+    /**
+     * 엔드포인트 설정에 따라 GET 요청을 수행합니다.
+     * 
+     * @param endpoint     요청할 API의 엔드포인트 정보
+     * @param requestUri   요청할 URI
+     * @param responseType 응답의 타입
+     * @param <T>          응답 타입
+     * @return 요청에 대한 응답을 발행하는 Mono
+     */
+    private <T> Mono<T> requestGet(ResolvedEndpoint endpoint, URI requestUri, Class<T> responseType) {
+	if (endpoint.endpoint().isCoalesce()) {
+	    return coalesce(endpoint, requestUri, responseType);
+	}
+	return exchangeGet(endpoint, requestUri, responseType);
+    }
+
+    /**
+     * GET 요청을 외부 API로 보냅니다. {@code cache}가 설정된 엔드포인트는 응답 캐시를 사용하고, {@code hedge}가 설정된 엔드포인트는
+     * 외부 API 호출의 응답이 늦어지면 추가 요청을 보냅니다.
+     * 
+     * @param endpoint     요청할 API의 엔드포인트 정보
+     * @param requestUri   요청할 URI
+     * @param responseType 응답의 타입
+     * @param <T>          응답 타입
+     * @return 요청에 대한 응답을 발행하는 Mono
+     */
+    private <T> Mono<T> exchangeGet(ResolvedEndpoint endpoint, URI requestUri, Class<T> responseType) {
+	UnaryOperator<Mono<T>> hedging = endpoint.endpoint().isHedge() ? request -> hedge(endpoint, request) : UnaryOperator.identity();
+
+	if (endpoint.endpoint().isCache()) {
+	    return client.requestCachedAsync(endpoint, requestUri, responseType, hedging);
+	}
+	return hedging.apply(client.requestAsync(endpoint, HttpMethod.GET, requestUri, null, responseType));
+    }
+
+    /**
+     * 요청을 보내고, 응답이 최근 응답 시간의 백분위수보다 늦어지면 같은 요청을 한 번 더 보냅니다.
+     * 
+     * <p>
+     * 먼저 도착한 응답을 사용하고 나머지 요청은 취소합니다. 추가 요청은 서버별 예산 내에서만 보내며, 응답 시간 기록이 충분하지 않으면
+     * 보내지 않습니다. 추가 요청 수와 추가 요청이 먼저 응답한 수는 {@code api.client.hedge} 지표로 노출됩니다.
+     * </p>
+     * 
+     * @param endpoint 요청할 API의 엔드포인트 정보
+     * @param request  외부 API 호출 (구독할 때마다 요청을 보내는 Mono)
+     * @param <T>      응답 타입
+     * @return 요청에 대한 응답을 발행하는 Mono
+     */
+    private <T> Mono<T> hedge(ResolvedEndpoint endpoint, Mono<T> request) {
+	ApiServer.Hedge settings = endpoint.server().getHedge();
+	LatencyTracker latency = latencyTrackers.computeIfAbsent(endpoint.endpointKey(), k -> new LatencyTracker(settings.getPercentile()));
+	HedgeBudget budget = hedgeBudgets.computeIfAbsent(endpoint.serverName(), k -> new HedgeBudget(settings.getBudget()));
+
+	budget.deposit();
+	Mono<T> primary = timed(request, latency, true);
+
+	long delayNanos = latency.percentileNanos();
+	if (delayNanos < 0) {
+	    return primary;
+	}
+
+	Mono<T> hedged = Mono.delay(Duration.ofNanos(Math.max(delayNanos, settings.getMinDelay().toNanos()))).flatMap(tick -> {
+	    if (!budget.tryAcquire()) {
+		hedgeCounter(endpoint, "no_budget").increment();
+		return Mono.<T>never();
+	    }
+	    hedgeCounter(endpoint, "issued").increment();
+	    return timed(request, latency, false)
+		    .doOnNext(response -> hedgeCounter(endpoint, "won").increment())
+		    // 추가 요청의 실패는 무시하고 원래 요청의 결과를 기다림
+		    .onErrorResume(e -> Mono.never());
+	});
+	return Mono.firstWithSignal(primary, hedged);
+    }
+
+    /**
+     * 요청의 응답 시간을 기록합니다. (구독 시점부터 응답까지)
+     * 
+     * <p>
+     * 원래 요청은 추가 요청이 먼저 응답하여 취소되어도 취소 시점까지의 시간을 기록합니다. 느린 요청이 빠지면 백분위수가 실제보다 낮아져
+     * 추가 요청이 점점 더 일찍 나가기 때문입니다. 추가 요청은 늦게 시작하므로 취소되면 기록하지 않습니다.
+     * </p>
+     * 
+     * @param request      요청
+     * @param latency      응답 시간 기록
+     * @param recordCancel 취소되면 취소 시점까지의 시간을 기록할지 여부
+     * @param <T>          응답 타입
+     * @return 응답 시간을 기록하는 Mono
+     */
+    private static <T> Mono<T> timed(Mono<T> request, LatencyTracker latency, boolean recordCancel) {
+	return Mono.defer(() -> {
+	    long start = System.nanoTime();
+	    AtomicBoolean recorded = new AtomicBoolean();
+	    Runnable record = () -> {
+		if (recorded.compareAndSet(false, true)) {
+		    latency.record(System.nanoTime() - start);
+		}
+	    };
+
+	    Mono<T> timed = request.doOnNext(response -> record.run());
+	    return recordCancel ? timed.doOnCancel(record) : timed;
+	});
+    }
+
+    /**
+     * 추가 요청 지표를 반환합니다.
+     * 
+     * @param endpoint 엔드포인트 정보
+     * @param result   결과 (issued, won, no_budget)
+     * @return Counter
+     */
+    private Counter hedgeCounter(ResolvedEndpoint endpoint, String result) {
+	return Counter.builder("api.client.hedge")
+		.tag("server", endpoint.serverName())
+		.tag("endpoint", endpoint.endpointKey())
+		.tag("result", result)
+		.register(meterRegistry);
+    }
+
+    /**
+     * 동일한 GET 요청이 이미 진행 중이면 그 응답을 함께 사용하고, 없으면 새로 요청합니다.
+     * 
+     * <p>
+     * 캐시가 비어 있을 때 같은 요청이 한꺼번에 몰려도 외부 API는 한 번만 호출됩니다. 요청이 끝나면(성공, 실패 모두) 진행 중 목록에서
+     * 제거되므로 이후 요청은 다시 외부 API를 호출합니다. 요청 수는 {@code api.client.coalesce} 지표로 노출됩니다.
+     * </p>
+     * 
+     * @param endpoint     요청할 API의 엔드포인트 정보
+     * @param requestUri   요청할 URI
+     * @param responseType 응답의 타입
+     * @param <T>          응답 타입
+     * @return 요청에 대한 응답을 발행하는 Mono
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> coalesce(ResolvedEndpoint endpoint, URI requestUri, Class<T> responseType) {
+	InFlightKey key = new InFlightKey(requestUri, responseType);
+	boolean[] leader = { false };
+
+	Mono<?> inFlight = inFlightRequests.computeIfAbsent(key, k -> {
+	    leader[0] = true;
+	    return exchangeGet(endpoint, requestUri, responseType)
+		    .doFinally(signal -> inFlightRequests.remove(k))
+		    .cache();
+	});
+
+	Counter.builder("api.client.coalesce")
+		.tag("endpoint", endpoint.endpointKey())
+		.tag("result", leader[0] ? "upstream" : "joined")
+		.register(meterRegistry)
+		.increment();
+	return (Mono<T>) inFlight;
+    }
+
+    /**
+     * 엔드포인트 정보를 찾습니다. 요청은 엔드포인트를 제공하는 API 서버 전용 커넥션 풀을 통해 수행됩니다.
+     * 
+     * @param apiEndpoint 요청할 API의 엔드포인트
+     * @return 엔드포인트 정보
+     * @throws IllegalArgumentException 설정에 없는 엔드포인트인 경우
+     */
+    private ResolvedEndpoint resolve(String apiEndpoint) {
+	ResolvedEndpoint endpoint = apiServerConfigProperties.resolve(apiEndpoint);
+	if (endpoint == null) {
+	    throw new IllegalArgumentException("Unknown API endpoint: " + apiEndpoint);
+	}
+	return endpoint;
+    }
+
+    /**
+     * URI와 쿼리 파라미터를 결합하여 전체 URL을 생성합니다.
+     * 
+     * @param endpoint        요청할 API의 엔드포인트 정보
+     * @param queryParameters 쿼리 파라미터를 담고 있는 객체 (Map, Bean 또는 record)
      * @return 생성된 URI
      */
-    private URI generateRequestUri(String apiEndpoint, Object queryParameters) {
-	// 기본 URI를 생성합니다.
-	UriComponentsBuilder uriBuilder = UriComponentsBuilder
-		.fromHttpUrl(apiServerConfigProperties.getApiProperties(apiEndpoint));
+    private URI generateRequestUri(ResolvedEndpoint endpoint, Object queryParameters) {
+	// 미리 파싱된 기본 URI를 복사합니다.
+	UriComponentsBuilder uriBuilder = UriComponentsBuilder.newInstance().uriComponents(endpoint.uri());
 
 	// 쿼리 파라미터를 URL에 추가합니다.
 	if (queryParameters instanceof Map) {
@@ -111,36 +358,20 @@ public class ApiClient {
 		}
 	    });
 	} else if (queryParameters != null) {
-	    // 쿼리 파라미터가 Bean인 경우
-	    try {
-		// Bean의 프로퍼티를 추출합니다.
-		PropertyDescriptor[] propertyDescriptors = java.beans.Introspector
-			.getBeanInfo(queryParameters.getClass(), Object.class).getPropertyDescriptors();
-
-		Stream.of(propertyDescriptors).map(PropertyDescriptor::getReadMethod).filter(Objects::nonNull)
-			.forEach(getter -> {
-			    try {
-				// 프로퍼티 값을 읽고 URL에 추가합니다.
-				Object value = getter.invoke(queryParameters);
-				if (value != null) {
-				    uriBuilder.queryParam(getter.getName(), value.toString());
-				}
-			    } catch (Exception e) {
-				// 프로퍼티 값 접근 중 오류 발생 시 로그를 남깁니다.
-				if (log.isErrorEnabled()) {
-				    log.error("Error accessing property with getter : {}", getter.getName(), e);
-				}
-			    }
-			});
-	    } catch (IntrospectionException e) {
-		// Bean 정보 추출 중 오류 발생 시 로그를 남깁니다.
-		if (log.isErrorEnabled()) {
-		    log.error("Failed to introspect the bean : {}", queryParameters.getClass().getName(), e);
-		}
-	    }
+	    // 쿼리 파라미터가 Bean 또는 record인 경우 (클래스별로 캐시된 접근자 사용)
+	    QueryParameterBinder.of(queryParameters.getClass()).bind(queryParameters, uriBuilder);
 	}
 
 	// 쿼리 파라미터가 추가된 전체 URI를 반환합니다.
 	return uriBuilder.build(true).toUri();
     }
+
+    /**
+     * 진행 중인 GET 요청의 키
+     * 
+     * @param requestUri   요청 URI
+     * @param responseType 응답의 타입
+     */
+    private record InFlightKey(URI requestUri, Class<?> responseType) {
+    }
 }
@@ -0,0 +1,58 @@
+package com.func.functional.biz.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추가 요청(hedge)의 비율을 제한하는 토큰 버킷입니다.
+ *
+ * <p>
+ * 요청마다 설정된 비율만큼 토큰이 쌓이고 추가 요청은 토큰 하나를 사용하므로, 추가 요청은 전체 요청의 해당 비율을 넘지 않습니다.
+ * 순간적인 지연에 대비해 최대 {@value #MAX_TOKENS}개까지 쌓아 둡니다.
+ * </p>
+ */
+class HedgeBudget {
+
+    /** 토큰 단위 (정수 연산용) */
+    private static final long TOKEN = 1000;
+
+    /** 쌓아 둘 수 있는 최대 토큰 수 */
+    private static final long MAX_TOKENS = 10;
+
+    /** 요청마다 쌓이는 토큰 (TOKEN 단위) */
+    private final long deposit;
+
+    /** 남은 토큰 (TOKEN 단위) */
+    private final AtomicLong tokens = new AtomicLong();
+
+    /**
+     * 생성자
+     *
+     * @param ratio 전체 요청 대비 추가 요청의 최대 비율 (0.0 ~ 1.0)
+     */
+    HedgeBudget(double ratio) {
+	this.deposit = Math.round(ratio * TOKEN);
+    }
+
+    /**
+     * 요청 하나에 해당하는 토큰을 쌓습니다.
+     */
+    void deposit() {
+	tokens.getAndUpdate(current -> Math.min(MAX_TOKENS * TOKEN, current + deposit));
+    }
+
+    /**
+     * 추가 요청을 위해 토큰 하나를 사용합니다.
+     *
+     * @return 토큰이 있어 사용했으면 {@code true}
+     */
+    boolean tryAcquire() {
+	long current;
+	do {
+	    current = tokens.get();
+	    if (current < TOKEN) {
+		return false;
+	    }
+	} while (!tokens.compareAndSet(current, current - TOKEN));
+	return true;
+    }
+}
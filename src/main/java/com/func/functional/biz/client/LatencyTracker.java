@@ -0,0 +1,83 @@
+package com.func.functional.biz.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 응답 시간의 백분위수를 계산하는 클래스입니다.
+ *
+ * <p>
+ * 최근 {@value #WINDOW}개의 응답 시간을 원형 버퍼에 보관하고, {@value #RECALCULATE_INTERVAL}개가 기록될 때마다 백분위수를
+ * 다시 계산합니다. 기록은 잠금 없이 수행되므로 요청 경로에 부담을 주지 않습니다.
+ * </p>
+ */
+class LatencyTracker {
+
+    /** 보관할 응답 시간 수 (2의 거듭제곱) */
+    private static final int WINDOW = 256;
+
+    /** 백분위수를 다시 계산하는 기록 간격 */
+    private static final int RECALCULATE_INTERVAL = 32;
+
+    /** 백분위수를 계산하기 위한 최소 기록 수 */
+    private static final int MIN_SAMPLES = 32;
+
+    /** 계산할 백분위 (0.0 초과 1.0 이하) */
+    private final double percentile;
+
+    /** 최근 응답 시간 (ns) */
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+
+    /** 전체 기록 수 */
+    private final AtomicLong count = new AtomicLong();
+
+    /** 마지막으로 계산한 백분위수 (ns, 기록이 부족하면 -1) */
+    private volatile long percentileNanos = -1;
+
+    /**
+     * 생성자
+     *
+     * @param percentile 계산할 백분위 (0.0 초과 1.0 이하)
+     */
+    LatencyTracker(double percentile) {
+	this.percentile = percentile;
+    }
+
+    /**
+     * 응답 시간을 기록합니다.
+     *
+     * @param nanos 응답 시간 (ns)
+     */
+    void record(long nanos) {
+	long index = count.getAndIncrement();
+	samples.lazySet((int) (index & (WINDOW - 1)), nanos);
+
+	if ((index + 1) % RECALCULATE_INTERVAL == 0 && index + 1 >= MIN_SAMPLES) {
+	    recalculate((int) Math.min(index + 1, WINDOW));
+	}
+    }
+
+    /**
+     * 마지막으로 계산한 백분위수를 반환합니다.
+     *
+     * @return 응답 시간 백분위수 (ns, 기록이 부족하면 -1)
+     */
+    long percentileNanos() {
+	return percentileNanos;
+    }
+
+    /**
+     * 보관 중인 응답 시간으로 백분위수를 계산합니다.
+     *
+     * @param size 보관 중인 응답 시간 수
+     */
+    private void recalculate(int size) {
+	long[] sorted = new long[size];
+	for (int i = 0; i < size; i++) {
+	    sorted[i] = samples.get(i);
+	}
+	Arrays.sort(sorted);
+	percentileNanos = sorted[Math.max(0, Math.min(size - 1, (int) Math.ceil(percentile * size) - 1))];
+    }
+}
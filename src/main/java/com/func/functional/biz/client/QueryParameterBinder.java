@@ -0,0 +1,188 @@
+package com.func.functional.biz.client;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bean 또는 record의 프로퍼티를 쿼리 파라미터로 추가하는 클래스입니다.
+ *
+ * <p>
+ * 클래스마다 한 번만 프로퍼티를 분석하여 {@link LambdaMetafactory}로 프로퍼티별 {@link Function} 접근자를 생성해 두므로, 요청마다
+ * {@link Introspector}나 리플렉션 호출을 하지 않습니다. 접근자는 읽기 메소드를 직접 호출하는 클래스이므로 JIT가 인라인할 수
+ * 있습니다. record는 선언된 컴포넌트 순서대로, Bean은 프로퍼티 이름 순서대로 추가합니다.
+ * </p>
+ *
+ * <p>
+ * Bean의 쿼리 파라미터 이름은 프로퍼티 이름({@code getSolYear()} → {@code solYear})입니다. 이전에는 읽기 메소드 이름
+ * ({@code getSolYear})을 그대로 사용했으므로, Bean을 쿼리 파라미터로 넘기던 호출자는 전송되는 파라미터 이름이 바뀝니다.
+ * </p>
+ */
+@Slf4j
+final class QueryParameterBinder {
+
+    /** 클래스별 바인더 캐시 */
+    private static final ClassValue<QueryParameterBinder> BINDERS = new ClassValue<>() {
+	@Override
+	protected QueryParameterBinder computeValue(Class<?> type) {
+	    return create(type);
+	}
+    };
+
+    /** 접근자 타입 (Object -> Object) */
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** 접근자를 생성하는 팩토리 타입 (() -> Function) */
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Function.class);
+
+    /** 쿼리 파라미터 이름 */
+    private final String[] names;
+
+    /** 쿼리 파라미터 값 접근자 */
+    private final Function<Object, Object>[] accessors;
+
+    private QueryParameterBinder(String[] names, Function<Object, Object>[] accessors) {
+	this.names = names;
+	this.accessors = accessors;
+    }
+
+    /**
+     * 주어진 클래스의 바인더를 반환합니다.
+     *
+     * @param type Bean 또는 record 클래스
+     * @return 바인더
+     */
+    static QueryParameterBinder of(Class<?> type) {
+	return BINDERS.get(type);
+    }
+
+    /**
+     * 객체의 프로퍼티 중 값이 null이 아닌 것을 쿼리 파라미터로 추가합니다.
+     *
+     * @param queryParameters 쿼리 파라미터를 담고 있는 객체
+     * @param uriBuilder      쿼리 파라미터를 추가할 UriComponentsBuilder
+     */
+    void bind(Object queryParameters, UriComponentsBuilder uriBuilder) {
+	for (int i = 0; i < accessors.length; i++) {
+	    try {
+		Object value = accessors[i].apply(queryParameters);
+		if (value != null) {
+		    uriBuilder.queryParam(names[i], value.toString());
+		}
+	    } catch (RuntimeException e) {
+		// 프로퍼티 값 접근 중 오류 발생 시 로그를 남깁니다.
+		if (log.isErrorEnabled()) {
+		    log.error("Error accessing property : {}.{}", queryParameters.getClass().getName(), names[i], e);
+		}
+	    }
+	}
+    }
+
+    /**
+     * 클래스의 프로퍼티를 분석하여 바인더를 생성합니다.
+     *
+     * @param type Bean 또는 record 클래스
+     * @return 바인더 (분석에 실패하면 아무 것도 추가하지 않는 바인더)
+     */
+    private static QueryParameterBinder create(Class<?> type) {
+	List<String> names = new ArrayList<>();
+	List<Function<Object, Object>> accessors = new ArrayList<>();
+
+	try {
+	    if (type.isRecord()) {
+		// record는 컴포넌트 이름과 접근자를 사용합니다.
+		for (RecordComponent component : type.getRecordComponents()) {
+		    names.add(component.getName());
+		    accessors.add(accessor(component.getAccessor()));
+		}
+	    } else {
+		// Bean은 읽기 메소드가 있는 프로퍼티를 사용합니다.
+		for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+		    if (descriptor.getReadMethod() != null) {
+			names.add(descriptor.getName());
+			accessors.add(accessor(descriptor.getReadMethod()));
+		    }
+		}
+	    }
+	} catch (IntrospectionException | IllegalAccessException e) {
+	    // Bean 정보 추출 중 오류 발생 시 로그를 남깁니다.
+	    if (log.isErrorEnabled()) {
+		log.error("Failed to introspect the bean : {}", type.getName(), e);
+	    }
+	    return new QueryParameterBinder(new String[0], newAccessorArray(0));
+	}
+
+	return new QueryParameterBinder(names.toArray(String[]::new), accessors.toArray(newAccessorArray(accessors.size())));
+    }
+
+    /**
+     * 접근자 배열을 생성합니다.
+     *
+     * @param size 크기
+     * @return 접근자 배열
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] newAccessorArray(int size) {
+	return new Function[size];
+    }
+
+    /**
+     * 읽기 메소드를 직접 호출하는 {@link Function}을 생성합니다.
+     *
+     * <p>
+     * 선언한 클래스의 권한으로 {@link LambdaMetafactory}를 호출하므로 public이 아닌 클래스의 메소드도 사용할 수 있습니다. 다른 모듈의
+     * 클래스처럼 접근자 클래스를 정의할 수 없으면 MethodHandle을 호출하는 접근자를 사용합니다.
+     * </p>
+     *
+     * @param readMethod 읽기 메소드
+     * @return 접근자
+     * @throws IllegalAccessException 메소드에 접근할 수 없는 경우
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> accessor(Method readMethod) throws IllegalAccessException {
+	Class<?> declaringClass = readMethod.getDeclaringClass();
+	try {
+	    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+	    MethodHandle handle = lookup.unreflect(readMethod);
+	    MethodType instantiatedType = MethodType.methodType(MethodType.methodType(readMethod.getReturnType()).wrap().returnType(), declaringClass);
+	    return (Function<Object, Object>) LambdaMetafactory
+		    .metafactory(lookup, "apply", FACTORY_TYPE, ACCESSOR_TYPE, handle, instantiatedType)
+		    .getTarget()
+		    .invokeExact();
+	} catch (Throwable e) {
+	    if (e instanceof Error error) {
+		throw error;
+	    }
+	    // 접근자 클래스를 정의할 수 없으면 MethodHandle을 사용합니다.
+	    if (log.isDebugEnabled()) {
+		log.debug("Falling back to a method handle accessor : {}", readMethod, e);
+	    }
+	}
+
+	// public이 아닌 클래스의 메소드도 호출할 수 있도록 접근을 허용합니다.
+	readMethod.trySetAccessible();
+	MethodHandle handle = MethodHandles.lookup().unreflect(readMethod).asType(ACCESSOR_TYPE);
+	return target -> {
+	    try {
+		return (Object) handle.invokeExact(target);
+	    } catch (RuntimeException | Error e) {
+		throw e;
+	    } catch (Throwable e) {
+		throw new IllegalStateException(e);
+	    }
+	};
+    }
+}
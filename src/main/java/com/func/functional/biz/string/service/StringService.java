@@ -1,7 +1,18 @@
 package com.func.functional.biz.string.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.func.functional.biz.string.model.MaskIn;
 import com.func.functional.utils.StringUtils;
 
@@ -14,6 +25,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StringService {
 
+    /** 한 번에 마스킹하여 출력할 건수 */
+    private static final int BATCH_SIZE = 1024;
+
+    /** JsonFactory (입출력 스트림은 닫지 않음) */
+    private static final JsonFactory jsonFactory = JsonFactory.builder()
+	    .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+	    .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+	    .build();
+
+    /** NDJSON 줄 구분자 */
+    private static final SerializedString LINE_SEPARATOR = new SerializedString("\n");
+
     /**
      * 주어진 문자열을 마스킹 처리합니다.
      * 
@@ -32,4 +55,119 @@ public class StringService {
 	return result;
     }
 
+    /**
+     * JSON 배열 또는 NDJSON으로 전달된 문자열을 읽는 대로 마스킹하여 같은 형식으로 출력합니다.
+     * 
+     * <p>
+     * 요청 본문을 {@value #BATCH_SIZE}건씩 읽어 마스킹한 후 바로 출력하므로, 건수와 관계없이 요청당 메모리 사용량이 일정하고
+     * 클라이언트는 요청을 모두 보내기 전부터 결과를 받을 수 있습니다. 요청 본문이 '['로 시작하면 JSON 배열로, 그렇지 않으면 한 줄에
+     * 하나의 값이 있는 NDJSON으로 처리합니다. null 값은 그대로 null로 출력합니다.
+     * </p>
+     * 
+     * <p>
+     * 첫 묶음을 출력한 후에는 응답 상태가 이미 전송되었으므로, 이후 입력 오류가 발생하면 정상 응답으로 보이지 않도록 JSON 배열은 닫지
+     * 않고 NDJSON은 마지막 줄에 {@code {"error": ...}}를 출력한 후 예외를 다시 던집니다. 첫 묶음을 출력하기 전에 발생한 오류는
+     * 아무 것도 출력하지 않고 던집니다.
+     * </p>
+     * 
+     * @param inputStream  마스킹할 문자열 목록 (JSON 배열 또는 NDJSON)
+     * @param outputStream 마스킹 처리된 문자열 목록을 출력할 스트림 (입력과 같은 형식)
+     * @return 처리한 건수
+     * @throws IOException 입력 형식이 올바르지 않거나 입출력 중 발생할 수 있는 예외
+     */
+    public long maskSensitiveData(InputStream inputStream, OutputStream outputStream) throws IOException {
+	long count = 0;
+	boolean array = false;
+	String[] batch = new String[BATCH_SIZE];
+
+	// 오류가 발생했을 때 열린 배열을 닫지 않도록 자동 종료를 사용하지 않음
+	JsonGenerator generator = jsonFactory.createGenerator(outputStream).disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+	try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+	    JsonToken token = parser.nextToken();
+	    array = token == JsonToken.START_ARRAY;
+
+	    if (array) {
+		generator.writeStartArray();
+		token = parser.nextToken();
+	    } else {
+		generator.setRootValueSeparator(LINE_SEPARATOR);
+	    }
+
+	    while (token != null && token != JsonToken.END_ARRAY) {
+		// 한 묶음을 읽음
+		int size = 0;
+		while (token != null && token != JsonToken.END_ARRAY && size < BATCH_SIZE) {
+		    batch[size++] = readValue(parser, token);
+		    token = parser.nextToken();
+		}
+
+		// 마스킹하여 출력한 후 클라이언트로 전송
+		for (int i = 0; i < size; i++) {
+		    if (batch[i] == null) {
+			generator.writeNull();
+		    } else {
+			generator.writeString(StringUtils.maskString(batch[i]));
+		    }
+		    batch[i] = null;
+		}
+		generator.flush();
+		count += size;
+	    }
+
+	    if (array) {
+		generator.writeEndArray();
+	    } else if (count > 0) {
+		generator.writeRaw('\n');
+	    }
+	    generator.close();
+	} catch (IOException | RuntimeException e) {
+	    // 출력한 내용이 없으면 버퍼를 버리고 오류 응답을 보낼 수 있도록 그대로 던짐
+	    if (count > 0) {
+		abort(generator, array, e);
+	    }
+	    throw e;
+	}
+	return count;
+    }
+
+    /**
+     * 출력 도중 발생한 오류를 클라이언트가 알 수 있도록 응답을 마무리합니다. JSON 배열은 닫지 않고, NDJSON은 오류 줄을 출력합니다.
+     * 
+     * @param generator JSON 출력기
+     * @param array     JSON 배열 여부
+     * @param cause     발생한 오류
+     */
+    private static void abort(JsonGenerator generator, boolean array, Exception cause) {
+	try {
+	    if (!array) {
+		generator.writeStartObject();
+		generator.writeStringField("error", cause.getMessage());
+		generator.writeEndObject();
+		generator.writeRaw('\n');
+	    }
+	    generator.close();
+	} catch (IOException | RuntimeException e) {
+	    // 클라이언트 연결이 끊긴 경우 등 출력할 수 없으면 원래 오류만 전달
+	    cause.addSuppressed(e);
+	}
+    }
+
+    /**
+     * 현재 값을 문자열로 읽습니다.
+     * 
+     * @param parser JSON 파서
+     * @param token  현재 토큰
+     * @return 문자열 값 (null 값이면 null)
+     * @throws IOException 입력을 읽는 중 발생할 수 있는 예외
+     */
+    private static String readValue(JsonParser parser, JsonToken token) throws IOException {
+	if (token == JsonToken.VALUE_NULL) {
+	    return null;
+	}
+	if (token != JsonToken.VALUE_STRING) {
+	    throw new IllegalArgumentException("Expected a string value but was " + token + " at " + parser.currentLocation());
+	}
+	return parser.getText();
+    }
+
 }
@@ -1,5 +1,9 @@
 package com.func.functional.biz.string.web;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -10,6 +14,8 @@ import com.func.functional.biz.string.service.StringService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -40,4 +46,46 @@ public class StringController {
 	return stringService.maskSensitiveData(args);
     }
 
+    /**
+     * JSON 배열로 전달된 민감한 정보를 일괄 마스킹 처리합니다.
+     * 
+     * <p>
+     * 요청 본문을 읽는 대로 마스킹하여 JSON 배열로 스트리밍하므로, 건수와 관계없이 요청당 메모리 사용량이 일정합니다. 응답 전송이
+     * 시작된 후 잘못된 값을 만나면 배열을 닫지 않고 연결을 끊으므로, 클라이언트는 잘린 응답을 정상 응답으로 받지 않습니다.
+     * </p>
+     * 
+     * @param request  마스킹할 문자열 배열 (예: ["010-1234-5678", "hong@example.com"])
+     * @param response 마스킹 처리된 문자열 배열 (요청과 같은 순서)
+     * @throws IOException 요청을 읽거나 응답을 출력하는 중 발생할 수 있는 예외
+     */
+    @Operation(summary = "Sensitive Data Masking (bulk)")
+    @PostMapping(value = "/mask/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public void maskSensitiveDataBulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+	response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+	response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+	stringService.maskSensitiveData(request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * NDJSON으로 전달된 민감한 정보를 일괄 마스킹 처리합니다.
+     * 
+     * <p>
+     * 한 줄에 하나의 문자열을 받아 마스킹한 결과를 같은 형식으로 스트리밍하므로, 요청을 모두 보내기 전부터 결과를 받을 수 있습니다.
+     * 응답 전송이 시작된 후 잘못된 값을 만나면 마지막 줄에 {@code {"error": ...}}를 출력하고 연결을 끊습니다.
+     * </p>
+     * 
+     * @param request  마스킹할 문자열 목록 (한 줄에 하나의 JSON 문자열)
+     * @param response 마스킹 처리된 문자열 목록 (요청과 같은 순서)
+     * @throws IOException 요청을 읽거나 응답을 출력하는 중 발생할 수 있는 예외
+     */
+    @Operation(summary = "Sensitive Data Masking (bulk, NDJSON stream)")
+    @PostMapping(value = "/mask/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void maskSensitiveDataStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+	response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+	response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+	stringService.maskSensitiveData(request.getInputStream(), response.getOutputStream());
+    }
+
 }
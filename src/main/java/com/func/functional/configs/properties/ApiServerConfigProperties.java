@@ -1,11 +1,19 @@
 package com.func.functional.configs.properties;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
 
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -15,23 +23,31 @@ import lombok.ToString;
  * 
  * <p>
  * 이 클래스는 애플리케이션의 설정 파일에서 'api-server' 접두어를 가진 속성을 로드하고, API 서버 정보를 처리하는 메소드를
- * 제공합니다.
+ * 제공합니다. 엔드포인트와 서버 조회는 바인딩 시점에 만든 색인을 사용합니다.
  * </p>
  */
 @Getter
 @Setter
 @Configuration
 @ConfigurationProperties(prefix = "api-server")
-public class ApiServerConfigProperties {
+public class ApiServerConfigProperties implements InitializingBean {
 
     /** API 서버 목록 */
     private List<ApiServer> servers;
 
+    /** 외부 API 응답 캐시 설정 (cache가 설정된 엔드포인트에 적용) */
+    private ResponseCache responseCache = new ResponseCache();
+
+    /** 엔드포인트 키와 서버 이름의 색인 (서버 목록이 바뀌면 다시 만듦) */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Index index;
+
     /**
      * API 서버 정보 클래스
      * 
      * <p>
-     * 각 API 서버의 이름, 도메인, API 키 및 엔드포인트 목록을 나타냅니다.
+     * 각 API 서버의 이름, 도메인, API 키, 엔드포인트 목록 및 연결 설정을 나타냅니다.
      * </p>
      */
     @Getter
@@ -50,6 +66,70 @@ public class ApiServerConfigProperties {
         /** 서버의 엔드포인트 목록 */
         private List<Endpoint> endpoints;
 
+        /** 연결 제한 시간 */
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        /** 응답 제한 시간 (요청 전송 후 응답을 받기까지) */
+        private Duration responseTimeout = Duration.ofSeconds(10);
+
+        /** 서버 전용 커넥션 풀 설정 */
+        private Pool pool = new Pool();
+
+        /** 추가 요청(hedge) 설정 (hedge가 설정된 엔드포인트에 적용) */
+        private Hedge hedge = new Hedge();
+
+        /**
+         * 커넥션 풀 설정 클래스
+         * 
+         * <p>
+         * 서버마다 별도의 커넥션 풀을 사용하므로 응답이 느린 서버가 다른 서버의 연결을 고갈시키지 않습니다.
+         * </p>
+         */
+        @Getter
+        @Setter
+        @ToString
+        public static class Pool {
+            /** 최대 연결 수 */
+            private int maxConnections = 50;
+
+            /** 연결을 기다릴 수 있는 최대 요청 수 (초과하면 즉시 실패) */
+            private int pendingAcquireMaxCount = 100;
+
+            /** 연결을 기다리는 최대 시간 */
+            private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+            /** 사용되지 않는 연결을 유지하는 최대 시간 */
+            private Duration maxIdleTime = Duration.ofSeconds(30);
+
+            /** 연결을 유지하는 최대 시간 (keep-alive 연결 포함) */
+            private Duration maxLifeTime = Duration.ofMinutes(5);
+
+            /** 유휴/만료 연결을 백그라운드에서 정리하는 주기 */
+            private Duration evictInterval = Duration.ofSeconds(30);
+        }
+
+        /**
+         * 추가 요청(hedge) 설정 클래스
+         * 
+         * <p>
+         * GET 요청의 응답이 최근 응답 시간의 백분위수보다 늦어지면 같은 요청을 한 번 더 보내고 먼저 도착한 응답을 사용합니다. 추가
+         * 요청은 서버별로 전체 요청의 일정 비율을 넘지 않습니다.
+         * </p>
+         */
+        @Getter
+        @Setter
+        @ToString
+        public static class Hedge {
+            /** 추가 요청을 보낼 응답 시간 백분위 (0.0 초과 1.0 이하) */
+            private double percentile = 0.95;
+
+            /** 추가 요청을 보내기 전 최소 대기 시간 */
+            private Duration minDelay = Duration.ofMillis(50);
+
+            /** 전체 요청 대비 추가 요청의 최대 비율 (0.0 ~ 1.0) */
+            private double budget = 0.05;
+        }
+
         /**
          * 엔드포인트 정보 클래스
          * 
@@ -66,64 +146,232 @@ public class ApiServerConfigProperties {
 
             /** 엔드포인트 설명 */
             private String description;
+
+            /** 동일한 GET 요청이 동시에 진행 중이면 하나의 응답을 함께 사용할지 여부 */
+            private boolean coalesce = false;
+
+            /** 응답의 Cache-Control, ETag, Last-Modified에 따라 GET 응답을 캐시할지 여부 */
+            private boolean cache = false;
+
+            /** 응답이 늦어지면 GET 요청을 한 번 더 보낼지 여부 (멱등 요청에만 설정) */
+            private boolean hedge = false;
         }
     }
 
+    /**
+     * 외부 API 응답 캐시 설정 클래스
+     * 
+     * <p>
+     * 캐시는 모든 서버가 함께 사용하며, 항목 수와 응답 크기의 합 중 먼저 도달하는 한도에서 축출됩니다.
+     * </p>
+     */
+    @Getter
+    @Setter
+    @ToString
+    public static class ResponseCache {
+        /** 캐시할 최대 응답 수 */
+        private int maxEntries = 1000;
+
+        /** 캐시할 응답 크기의 합 */
+        private DataSize maxSize = DataSize.ofMegabytes(16);
+    }
+
+    /**
+     * 엔드포인트 키에 해당하는 엔드포인트 정보를 반환합니다.
+     * 
+     * <p>
+     * 설정이 바인딩될 때 만들어진 색인에서 찾으므로 엔드포인트 수와 관계없이 일정한 시간이 걸립니다. 키가 설정과 정확히 일치하면 추가
+     * 객체를 생성하지 않으며, 대소문자만 다른 경우 소문자로 변환하여 다시 찾습니다.
+     * </p>
+     * 
+     * @param endPointKey 엔드포인트 키 (대소문자 구분 없음)
+     * @return 엔드포인트 정보 또는 null (일치하는 엔드포인트가 없을 경우)
+     */
+    public ResolvedEndpoint resolve(String endPointKey) {
+        if (endPointKey == null) {
+            return null;
+        }
+
+        Index current = index();
+        ResolvedEndpoint endpoint = current.endpoints().get(endPointKey);
+        return endpoint != null ? endpoint : current.endpoints().get(endPointKey.toLowerCase(Locale.ROOT));
+    }
+
     /**
      * 주어진 엔드포인트 키에 해당하는 API 서버의 전체 URL을 반환합니다.
      * 
      * <p>
-     * API 서버 목록에서 엔드포인트 키가 일치하는 서버를 찾고, 도메인 끝에 '/'가 없으면 추가합니다. 그런 다음, 도메인과 엔드포인트 키를
-     * 결합하여 전체 URL을 반환합니다.
+     * 도메인 끝에 '/'가 없으면 추가한 후 도메인과 엔드포인트 키를 결합한 URL입니다.
      * </p>
      * 
      * @param endPointKey 엔드포인트 키
      * @return 전체 URL 또는 null (일치하는 엔드포인트가 없을 경우)
      */
     public String getApiProperties(String endPointKey) {
-        if (servers == null) {
+        ResolvedEndpoint endpoint = resolve(endPointKey);
+        return endpoint == null ? null : endpoint.url();
+    }
+
+    /**
+     * 주어진 엔드포인트 키를 가진 API 서버를 반환합니다.
+     * 
+     * @param endPointKey 엔드포인트 키
+     * @return API 서버 또는 null (일치하는 엔드포인트가 없을 경우)
+     */
+    public ApiServer getApiServer(String endPointKey) {
+        ResolvedEndpoint endpoint = resolve(endPointKey);
+        return endpoint == null ? null : endpoint.server();
+    }
+
+    /**
+     * 주어진 이름에 해당하는 API 서버의 API 키를 반환합니다.
+     * 
+     * @param name API 서버 이름 (대소문자 구분 없음)
+     * @return API 키 또는 null (일치하는 서버가 없을 경우)
+     */
+    public String getApiKey(String name) {
+        if (name == null) {
             return null;
         }
 
-        for (ApiServer server : servers) {
-            Optional<ApiServer.Endpoint> endpoint = server.getEndpoints().stream().filter(ep -> ep.getEndpointKey().equalsIgnoreCase(endPointKey)).findFirst();
+        Index current = index();
+        ApiServer server = current.servers().get(name);
+        if (server == null) {
+            server = current.servers().get(name.toLowerCase(Locale.ROOT));
+        }
+        return server == null ? null : server.getKey();
+    }
+
+    /**
+     * API 서버 목록을 설정합니다. 기존 색인은 버리고 다음 조회 시 다시 만듭니다.
+     * 
+     * @param servers API 서버 목록
+     */
+    public void setServers(List<ApiServer> servers) {
+        this.servers = servers;
+        this.index = null;
+    }
+
+    /**
+     * 설정 바인딩이 끝나면 색인을 만듭니다. 엔드포인트 키가 중복되거나 도메인 또는 추가 요청 설정이 올바르지 않으면 애플리케이션 시작에
+     * 실패합니다.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        index = buildIndex(servers);
+    }
+
+    /**
+     * 현재 색인을 반환합니다. 아직 만들어지지 않았으면 새로 만듭니다.
+     * 
+     * @return 색인
+     */
+    private Index index() {
+        Index current = index;
+        if (current == null) {
+            current = buildIndex(servers);
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * 서버 목록으로 엔드포인트 키와 서버 이름의 색인을 만듭니다. 원래 키와 소문자 키를 모두 등록합니다.
+     * 
+     * @param servers API 서버 목록
+     * @return 변경할 수 없는 색인
+     */
+    private static Index buildIndex(List<ApiServer> servers) {
+        Map<String, ResolvedEndpoint> endpoints = new HashMap<>();
+        Map<String, ApiServer> serversByName = new HashMap<>();
+
+        if (servers != null) {
+            for (ApiServer server : servers) {
+                if (server.getName() != null) {
+                    serversByName.putIfAbsent(server.getName(), server);
+                    serversByName.putIfAbsent(server.getName().toLowerCase(Locale.ROOT), server);
+                }
+                validateHedge(server);
+                if (server.getEndpoints() == null) {
+                    continue;
+                }
 
-            // 엔드포인트가 존재할 경우 도메인 끝에 '/'가 없으면 추가하고, 전체 URL을 반환
-            if (endpoint.isPresent()) {
-                String domain = server.getDomain();
+                String domain = server.getDomain().endsWith("/") ? server.getDomain() : server.getDomain() + "/";
+                for (ApiServer.Endpoint ep : server.getEndpoints()) {
+                    String url = domain + ep.getEndpointKey();
+                    ResolvedEndpoint endpoint = new ResolvedEndpoint(server, ep, url,
+                            UriComponentsBuilder.fromHttpUrl(url).build(true));
 
-                if (!server.getDomain().endsWith("/")) {
-                    domain += "/";
+                    ResolvedEndpoint previous = endpoints.put(ep.getEndpointKey().toLowerCase(Locale.ROOT), endpoint);
+                    if (previous != null) {
+                        throw new IllegalStateException("Duplicate endpoint key: " + ep.getEndpointKey() + " (" + previous.server().getName() + ", "
+                                + server.getName() + ")");
+                    }
+                    endpoints.put(ep.getEndpointKey(), endpoint);
                 }
-                return domain + endPointKey;
             }
         }
-        return null;
+        return new Index(Map.copyOf(endpoints), Map.copyOf(serversByName));
     }
 
     /**
-     * 주어진 이름에 해당하는 API 서버의 API 키를 반환합니다.
+     * 서버의 추가 요청 설정을 검증합니다.
      * 
-     * <p>
-     * API 서버 목록에서 이름이 일치하는 서버의 API 키를 반환합니다.
-     * </p>
-     * 
-     * @param name API 서버 이름
-     * @return API 키 또는 null (일치하는 서버가 없을 경우)
+     * @param server API 서버
+     * @throws IllegalStateException 백분위가 0.0 초과 1.0 이하가 아니거나, 비율이 0.0 ~ 1.0이 아니거나, 최소 대기 시간이 음수인 경우
      */
-    public String getApiKey(String name) {
-        if (servers == null) {
-            return null;
+    private static void validateHedge(ApiServer server) {
+        ApiServer.Hedge hedge = server.getHedge();
+        if (hedge == null) {
+            throw new IllegalStateException("Missing hedge settings: " + server.getName());
+        }
+        if (!(hedge.getPercentile() > 0 && hedge.getPercentile() <= 1)) {
+            throw new IllegalStateException("Invalid hedge.percentile: " + hedge.getPercentile() + " (" + server.getName() + ", expected (0, 1])");
+        }
+        if (!(hedge.getBudget() >= 0 && hedge.getBudget() <= 1)) {
+            throw new IllegalStateException("Invalid hedge.budget: " + hedge.getBudget() + " (" + server.getName() + ", expected [0, 1])");
         }
+        if (hedge.getMinDelay() == null || hedge.getMinDelay().isNegative()) {
+            throw new IllegalStateException("Invalid hedge.min-delay: " + hedge.getMinDelay() + " (" + server.getName() + ")");
+        }
+    }
 
-        for (ApiServer server : servers) {
+    /**
+     * 엔드포인트 정보
+     * 
+     * @param server   엔드포인트를 제공하는 API 서버
+     * @param endpoint 엔드포인트 설정
+     * @param url      전체 URL
+     * @param uri      미리 파싱된 전체 URL (인코딩된 상태)
+     */
+    public record ResolvedEndpoint(ApiServer server, ApiServer.Endpoint endpoint, String url, UriComponents uri) {
 
-            // 서버 이름이 일치하는 경우 API 키를 반환
-            if (server.getName().equalsIgnoreCase(name)) {
-                return server.getKey();
-            }
+        /**
+         * 엔드포인트 키를 반환합니다.
+         * 
+         * @return 엔드포인트 키 (설정에 적힌 그대로)
+         */
+        public String endpointKey() {
+            return endpoint.getEndpointKey();
         }
-        return null;
+
+        /**
+         * 엔드포인트를 제공하는 API 서버의 이름을 반환합니다.
+         * 
+         * @return API 서버 이름
+         */
+        public String serverName() {
+            return server.getName();
+        }
+    }
+
+    /**
+     * 엔드포인트 키와 서버 이름의 색인
+     * 
+     * @param endpoints 엔드포인트 키(원래 키, 소문자 키)별 엔드포인트 정보
+     * @param servers   서버 이름(원래 이름, 소문자 이름)별 API 서버
+     */
+    private record Index(Map<String, ResolvedEndpoint> endpoints, Map<String, ApiServer> servers) {
     }
 
 }
@@ -0,0 +1,48 @@
+package com.func.functional.configs.properties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청/응답 본문 로깅에 대한 구성 속성을 로드하는 클래스입니다.
+ *
+ * <p>
+ * 이 클래스는 애플리케이션의 설정 파일에서 'body-log' 접두어를 가진 속성을 로드하며, 로그 버퍼 크기, 본문 최대 길이 및 경로별
+ * 샘플링 비율을 정의합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "body-log")
+public class BodyLogConfigProperties {
+
+    /** 본문 로깅 사용 여부 */
+    private boolean enabled = true;
+
+    /** 기록 대기 중인 로그를 보관할 버퍼 크기 (2의 거듭제곱으로 올림, 가득 차면 버림) */
+    private int capacity = 1024;
+
+    /** 로그에 남길 본문의 최대 크기 (초과분은 잘라냄) */
+    private DataSize maxBytes = DataSize.ofKilobytes(4);
+
+    /** 재사용할 응답 본문 복사용 버퍼 수 */
+    private int bufferPoolSize = 256;
+
+    /** 응답 본문 복사용 버퍼를 direct 버퍼로 생성할지 여부 */
+    private boolean directBuffers = false;
+
+    /** 기본 샘플링 비율 (0.0 ~ 1.0) */
+    private double sampleRate = 1.0;
+
+    /** 경로 패턴(Ant 스타일)별 샘플링 비율 (먼저 일치하는 패턴 적용) */
+    private Map<String, Double> routes = new LinkedHashMap<>();
+
+}
@@ -0,0 +1,53 @@
+package com.func.functional.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 차트 생성에 대한 구성 속성을 로드하는 클래스입니다.
+ *
+ * <p>
+ * 이 클래스는 애플리케이션의 설정 파일에서 'chart' 접두어를 가진 속성을 로드합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chart")
+public class ChartConfigProperties {
+
+    /** 여러 차트를 한 번에 생성할 때 사용할 최대 병렬 스레드 수 */
+    private int batchParallelism = Runtime.getRuntime().availableProcessors();
+
+    /** 차트 응답 캐시 설정 */
+    private ResponseCache responseCache = new ResponseCache();
+
+    /**
+     * 차트 응답 캐시 설정 클래스
+     *
+     * <p>
+     * 난수 시드가 지정되어 결과가 요청 조건만으로 결정되는 차트의 직렬화된 응답을 보관합니다.
+     * </p>
+     */
+    @Getter
+    @Setter
+    @ToString
+    public static class ResponseCache {
+        /** 캐시 사용 여부 */
+        private boolean enabled = true;
+
+        /** 캐시에 보관할 최대 응답 크기의 합 */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        /** 캐시된 응답의 유효 기간 (공휴일 정보 갱신 반영 주기) */
+        private Duration ttl = Duration.ofHours(1);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.func.functional.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 공휴일 정보 조회에 대한 구성 속성을 로드하는 클래스입니다.
+ *
+ * <p>
+ * 이 클래스는 애플리케이션의 설정 파일에서 'holiday' 접두어를 가진 속성을 로드하며, 연도별 공휴일 캐시의 유효 기간, 사전
+ * 갱신(refresh-ahead) 시점, 조회 실패 후 재시도 간격, 조회 가능한 연도 수 및 병렬 조회 한도를 정의합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "holiday")
+public class HolidayConfigProperties {
+
+    /** 캐시된 공휴일 정보의 유효 기간 */
+    private Duration cacheTtl = Duration.ofHours(24);
+
+    /** 만료 전 백그라운드 갱신을 시작할 시점 (만료까지 남은 시간) */
+    private Duration refreshAhead = Duration.ofHours(1);
+
+    /** 갱신 실패 시 만료된 정보를 계속 제공할 수 있는 최대 기간 (만료 시점 기준) */
+    private Duration maxStale = Duration.ofDays(7);
+
+    /** 조회에 실패한 연도를 다시 조회하기까지 기다리는 시간 (그동안은 API를 호출하지 않음) */
+    private Duration retryAfterFailure = Duration.ofSeconds(30);
+
+    /** 한 번에 조회할 수 있는 최대 연도 수 (30년 기간이 걸치는 31개 연도) */
+    private int maxYears = 31;
+
+    /** 여러 연도를 조회할 때 동시에 수행할 최대 API 호출 수 (10년 기간이 걸치는 11개 연도를 한 번의 왕복으로 조회) */
+    private int fetchConcurrency = 11;
+
+}
@@ -0,0 +1,32 @@
+package com.func.functional.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 가상 스레드 진단에 대한 구성 속성을 로드하는 클래스입니다.
+ *
+ * <p>
+ * 이 클래스는 애플리케이션의 설정 파일에서 'virtual-threads' 접두어를 가진 속성을 로드하며, 가상 스레드가 캐리어 스레드에
+ * 고정(pinning)된 경우를 기록할 기준을 정의합니다. 가상 스레드 사용 여부는 {@code spring.threads.virtual.enabled}로
+ * 설정합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadConfigProperties {
+
+    /** 이 시간 이상 고정된 경우만 기록 */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /** 기록할 호출 스택의 최대 깊이 */
+    private int pinnedStackDepth = 8;
+
+}
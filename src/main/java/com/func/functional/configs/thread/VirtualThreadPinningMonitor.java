@@ -0,0 +1,91 @@
+package com.func.functional.configs.thread;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import com.func.functional.configs.properties.VirtualThreadConfigProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)되는 경우를 기록하는 클래스입니다.
+ *
+ * <p>
+ * {@code synchronized} 블록 안에서 블로킹되는 등 가상 스레드가 캐리어 스레드를 놓지 못하면 JFR의
+ * {@code jdk.VirtualThreadPinned} 이벤트가 발생합니다. 이 이벤트를 구독하여 호출 위치를 경고 로그로 남기고, 발생 횟수를
+ * {@code jvm.threads.virtual.pinned} 지표로 노출합니다. 가상 스레드를 사용하는 경우에만 활성화됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    /** JFR 이벤트 이름 */
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** 가상 스레드 진단 설정 */
+    private final VirtualThreadConfigProperties virtualThreadConfigProperties;
+
+    /** MeterRegistry */
+    private final MeterRegistry meterRegistry;
+
+    /** 고정 발생 횟수 */
+    private final LongAdder pinnedCount = new LongAdder();
+
+    /** JFR 이벤트 스트림 */
+    private RecordingStream recordingStream;
+
+    /**
+     * JFR 이벤트 구독을 시작하고 지표를 등록합니다.
+     */
+    @PostConstruct
+    void start() {
+        FunctionCounter.builder("jvm.threads.virtual.pinned", pinnedCount, LongAdder::sum).register(meterRegistry);
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(virtualThreadConfigProperties.getPinnedThreshold()).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    /**
+     * JFR 이벤트 구독을 종료합니다.
+     */
+    @PreDestroy
+    void stop() {
+        recordingStream.close();
+    }
+
+    /**
+     * 고정 이벤트를 기록합니다.
+     *
+     * @param event JFR 이벤트
+     */
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+
+        if (log.isWarnEnabled()) {
+            List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+            String stackTrace = frames.stream()
+                    .limit(virtualThreadConfigProperties.getPinnedStackDepth())
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining(" <- "));
+            log.warn("Virtual thread pinned for {} ms: {}", event.getDuration().toMillis(), stackTrace);
+        }
+    }
+}
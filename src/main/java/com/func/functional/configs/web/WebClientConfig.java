@@ -1,9 +1,13 @@
 package com.func.functional.configs.web;
 
+import org.springframework.boot.web.codec.CodecCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.func.functional.biz.chart.codec.HolidayResponseDecoder;
+import com.func.functional.biz.chart.model.HolidayDates;
+
 /**
  * WebClientConfig 클래스는 WebClient의 빈 설정을 제공합니다.
  * 
@@ -31,4 +35,18 @@ public class WebClientConfig {
     WebClient webclient(WebClient.Builder builder) {
 	return builder.build();
     }
+
+    /**
+     * WebClient에 공휴일 API 응답 Decoder를 등록합니다.
+     * 
+     * <p>
+     * 응답 타입이 {@link HolidayDates}인 경우 응답 본문을 문자열로 만들지 않고 바로 공휴일 날짜로 변환합니다.
+     * </p>
+     * 
+     * @return CodecCustomizer
+     */
+    @Bean
+    CodecCustomizer holidayCodecCustomizer() {
+	return configurer -> configurer.customCodecs().register(new HolidayResponseDecoder());
+    }
 }
@@ -1,15 +1,21 @@
 package com.func.functional.configs.web;
 
+import java.util.List;
+
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.func.functional.biz.chart.codec.ChartBinaryHttpMessageConverter;
+
 /**
  * WebMvcConfig 클래스는 Spring MVC에서 CORS(Cross-Origin Resource Sharing) 설정을 구성합니다.
  * 
  * <p>
  * 이 클래스는 특정 경로에 대해 허용할 출처, 헤더, 메서드 등을 정의하여
  * 외부 도메인에서의 API 접근을 제어할 수 있도록 합니다.
+ * 또한 차트 바이너리 응답 형식을 위한 HttpMessageConverter를 등록합니다.
  * </p>
  */
 @Configuration
@@ -29,4 +35,18 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .allowCredentials(true);                                     // 자격 증명 허용 여부
     }
 
+    /**
+     * 기본 HttpMessageConverter 뒤에 차트 바이너리 형식 변환기를 추가합니다.
+     * 
+     * <p>
+     * 기본 응답 형식(JSON)은 그대로 유지되며, {@code Accept: application/x-chart-binary} 헤더로 요청한 경우에만 사용됩니다.
+     * </p>
+     * 
+     * @param converters 등록된 HttpMessageConverter 목록
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ChartBinaryHttpMessageConverter());
+    }
+
 }
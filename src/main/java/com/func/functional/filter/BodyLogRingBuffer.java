@@ -0,0 +1,98 @@
+package com.func.functional.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 요청 스레드가 넣고 하나의 기록 스레드가 꺼내는 크기가 고정된 lock-free 링 버퍼입니다.
+ *
+ * <p>
+ * 슬롯마다 순번을 두어 생산자는 CAS 한 번으로 자리를 확보하며, 버퍼가 가득 차면 기다리지 않고 {@code false}를 반환합니다.
+ * </p>
+ *
+ * @param <E> 항목 타입
+ */
+final class BodyLogRingBuffer<E> {
+
+    /** 항목 */
+    private final AtomicReferenceArray<E> items;
+
+    /** 슬롯별 순번 (생산자/소비자가 슬롯을 사용할 수 있는 시점) */
+    private final AtomicLongArray sequences;
+
+    /** 슬롯 위치 계산용 마스크 (크기 - 1) */
+    private final int mask;
+
+    /** 다음에 넣을 위치 */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** 다음에 꺼낼 위치 (소비자 스레드 전용) */
+    private volatile long head;
+
+    /**
+     * 생성자
+     *
+     * @param capacity 버퍼 크기 (2의 거듭제곱으로 올림)
+     */
+    BodyLogRingBuffer(int capacity) {
+	int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+	this.items = new AtomicReferenceArray<>(size);
+	this.sequences = new AtomicLongArray(size);
+	this.mask = size - 1;
+	for (int i = 0; i < size; i++) {
+	    sequences.set(i, i);
+	}
+    }
+
+    /**
+     * 항목을 넣습니다. (여러 스레드에서 호출 가능)
+     *
+     * @param item 항목
+     * @return 버퍼가 가득 차서 넣지 못했으면 {@code false}
+     */
+    boolean offer(E item) {
+	while (true) {
+	    long position = tail.get();
+	    int index = (int) position & mask;
+	    long difference = sequences.get(index) - position;
+
+	    if (difference == 0) {
+		if (tail.compareAndSet(position, position + 1)) {
+		    items.set(index, item);
+		    sequences.set(index, position + 1);
+		    return true;
+		}
+	    } else if (difference < 0) {
+		return false;
+	    }
+	}
+    }
+
+    /**
+     * 항목을 꺼냅니다. (소비자 스레드에서만 호출)
+     *
+     * @return 꺼낸 항목 (비어 있으면 {@code null})
+     */
+    E poll() {
+	int index = (int) head & mask;
+	if (sequences.get(index) != head + 1) {
+	    return null;
+	}
+
+	E item = items.get(index);
+	items.set(index, null);
+	sequences.set(index, head + mask + 1);
+	head++;
+	return item;
+    }
+
+    /**
+     * 기록 대기 중인 항목 수를 반환합니다. (근삿값)
+     *
+     * @return 항목 수
+     */
+    int size() {
+	return (int) Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,239 @@
+package com.func.functional.filter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import com.func.functional.configs.properties.BodyLogConfigProperties;
+import com.func.functional.filter.wrapper.ByteBufferPool;
+import com.func.functional.filter.wrapper.RequestWrapper;
+import com.func.functional.filter.wrapper.ResponseWrapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청/응답 본문을 비동기로 기록하는 클래스입니다.
+ *
+ * <p>
+ * 요청 스레드는 최대 길이로 자른 본문을 링 버퍼에 넣기만 하며, 문자열 변환과 로그 출력은 백그라운드 기록 스레드에서 수행합니다.
+ * 버퍼가 가득 차면 기다리지 않고 버리며, 버린 수는 {@code body.log.entries{result=dropped}} 지표로 노출됩니다. 응답 본문 복사용
+ * 버퍼는 기록이 끝나면 풀로 반환되어 재사용됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BodyLogger {
+
+    /** 본문 로깅 설정 */
+    private final BodyLogConfigProperties bodyLogConfigProperties;
+
+    /** MeterRegistry */
+    private final MeterRegistry meterRegistry;
+
+    /** 경로 패턴 비교 */
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /** 버퍼가 비었을 때 기록 스레드의 대기 시간 */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** 기록 대기 중인 로그 */
+    private BodyLogRingBuffer<Entry> buffer;
+
+    /** 응답 본문 복사용 버퍼 풀 */
+    private ByteBufferPool bufferPool;
+
+    /** 기록 스레드 */
+    private Thread writerThread;
+
+    /** 기록 스레드 실행 여부 */
+    private volatile boolean running;
+
+    // 로그 지표
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * 링 버퍼와 기록 스레드를 생성하고 지표를 등록합니다.
+     */
+    @PostConstruct
+    void start() {
+	buffer = new BodyLogRingBuffer<>(bodyLogConfigProperties.getCapacity());
+	bufferPool = new ByteBufferPool(getMaxBytes(), bodyLogConfigProperties.getBufferPoolSize(), bodyLogConfigProperties.isDirectBuffers());
+
+	FunctionCounter.builder("body.log.entries", writtenCount, LongAdder::sum).tag("result", "written").register(meterRegistry);
+	FunctionCounter.builder("body.log.entries", droppedCount, LongAdder::sum).tag("result", "dropped").register(meterRegistry);
+	Gauge.builder("body.log.pending", buffer, BodyLogRingBuffer::size).register(meterRegistry);
+
+	running = true;
+	writerThread = new Thread(this::drain, "body-log-writer");
+	writerThread.setDaemon(true);
+	writerThread.start();
+    }
+
+    /**
+     * 기록 스레드를 종료합니다. 남아 있는 로그는 종료 전에 기록합니다.
+     *
+     * @throws InterruptedException 종료를 기다리는 동안 인터럽트된 경우
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+	running = false;
+	LockSupport.unpark(writerThread);
+	writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 주어진 요청의 본문을 기록할지 결정합니다.
+     *
+     * <p>
+     * 요청 경로와 먼저 일치하는 패턴의 샘플링 비율을, 일치하는 패턴이 없으면 기본 비율을 적용합니다.
+     * </p>
+     *
+     * @param request 요청 객체
+     * @return 기록 대상이면 {@code true}
+     */
+    public boolean isSampled(HttpServletRequest request) {
+	if (!bodyLogConfigProperties.isEnabled()) {
+	    return false;
+	}
+
+	double sampleRate = bodyLogConfigProperties.getSampleRate();
+	String path = request.getRequestURI().substring(request.getContextPath().length());
+	for (Map.Entry<String, Double> route : bodyLogConfigProperties.getRoutes().entrySet()) {
+	    if (pathMatcher.match(route.getKey(), path)) {
+		sampleRate = route.getValue();
+		break;
+	    }
+	}
+	return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 로그에 남길 본문의 최대 길이를 반환합니다.
+     *
+     * @return 최대 길이
+     */
+    public int getMaxBytes() {
+	return (int) bodyLogConfigProperties.getMaxBytes().toBytes();
+    }
+
+    /**
+     * 응답 본문 복사용 버퍼 풀을 반환합니다.
+     *
+     * @return 버퍼 풀
+     */
+    public ByteBufferPool getBufferPool() {
+	return bufferPool;
+    }
+
+    /**
+     * 요청/응답 본문을 기록 대기열에 넣습니다. 버퍼가 가득 차면 버립니다.
+     *
+     * @param request  요청 객체 (요청 본문의 앞부분을 복사해 둔 객체)
+     * @param response 응답 객체 (응답 본문의 앞부분을 복사해 둔 객체)
+     */
+    public void publish(RequestWrapper request, ResponseWrapper response) {
+	Entry entry = new Entry(request.getMethod(), request.getRequestURI(), request.getQueryString(), response.getStatus(),
+		request.getContentAsByteArray(), request.getBodyLength(), response.detachContent(), response.getBodyLength());
+
+	if (!buffer.offer(entry)) {
+	    droppedCount.increment();
+	    bufferPool.release(entry.responseBody());
+	}
+    }
+
+    /**
+     * 버퍼의 로그를 꺼내 기록합니다. (기록 스레드)
+     */
+    private void drain() {
+	while (true) {
+	    Entry entry = buffer.poll();
+	    if (entry != null) {
+		write(entry);
+		continue;
+	    }
+	    if (!running) {
+		return;
+	    }
+	    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+	}
+    }
+
+    /**
+     * 로그 한 건을 출력하고 응답 본문 버퍼를 풀로 반환합니다. (기록 스레드)
+     *
+     * @param entry 로그
+     */
+    private void write(Entry entry) {
+	try {
+	    if (log.isInfoEnabled()) {
+		log.info("{} {} -> {} | Query String: {} | Request Body: {} | Response Body: {}", entry.method(), entry.uri(), entry.status(),
+			entry.queryString(), toString(entry.requestBody(), entry.requestLength()),
+			toString(entry.responseBody(), entry.responseLength()));
+	    }
+	    writtenCount.increment();
+	} catch (RuntimeException e) {
+	    droppedCount.increment();
+	} finally {
+	    bufferPool.release(entry.responseBody());
+	}
+    }
+
+    /**
+     * 본문을 UTF-8 문자열로 변환합니다. 잘린 본문에는 전체 길이를 덧붙입니다.
+     *
+     * @param body   본문
+     * @param length 잘리기 전의 길이
+     * @return 본문 문자열
+     */
+    private static String toString(byte[] body, long length) {
+	String text = new String(body, StandardCharsets.UTF_8);
+	return body.length < length ? text + "...(" + length + " bytes)" : text;
+    }
+
+    /**
+     * 본문 버퍼를 UTF-8 문자열로 변환합니다. 잘린 본문에는 전체 길이를 덧붙입니다.
+     *
+     * @param body   본문 버퍼 ({@code null}이면 본문 없음)
+     * @param length 잘리기 전의 길이
+     * @return 본문 문자열
+     */
+    private static String toString(ByteBuffer body, long length) {
+	if (body == null) {
+	    return "";
+	}
+	String text = StandardCharsets.UTF_8.decode(body.duplicate()).toString();
+	return body.remaining() < length ? text + "...(" + length + " bytes)" : text;
+    }
+
+    /**
+     * 기록 대기 중인 로그
+     *
+     * @param method         요청 메서드
+     * @param uri            요청 URI
+     * @param queryString    요청 쿼리 문자열
+     * @param status         응답 상태 코드
+     * @param requestBody    요청 본문 (최대 길이까지)
+     * @param requestLength  읽힌 요청 본문의 전체 길이
+     * @param responseBody   응답 본문 (버퍼 크기까지, 풀에서 가져온 버퍼)
+     * @param responseLength 전송된 응답 본문의 전체 길이
+     */
+    private record Entry(String method, String uri, String queryString, int status, byte[] requestBody, long requestLength, ByteBuffer responseBody,
+	    long responseLength) {
+    }
+}
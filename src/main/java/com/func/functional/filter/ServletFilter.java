@@ -1,7 +1,6 @@
 package com.func.functional.filter;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -30,12 +29,12 @@ public class ServletFilter extends OncePerRequestFilter {
     @Value("${spring.profiles.active}")
     String activatedProfile;
 
+    /** 요청/응답 본문 로거 */
+    private final BodyLogger bodyLogger;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 	    throws ServletException, IOException {
-	RequestWrapper requestWrapper = new RequestWrapper(request);
-	ResponseWrapper responseWrapper = new ResponseWrapper(response);
-
 	/**
 	 * CORS 헤더 설정
 	 */
@@ -48,20 +47,24 @@ public class ServletFilter extends OncePerRequestFilter {
 	    return;
 	}
 
-	// 필터 체인 실행
-	filterChain.doFilter(requestWrapper, responseWrapper);
-
-	// 요청 쿼리 문자열
-	log.info("Query String: {}", requestWrapper.getQueryString());
-
-	// 요청 바디 문자열
-	log.info("Request Body: {}", requestWrapper.getBody());
+	// 샘플링 대상이 아니면 본문을 캐시하지 않고 바로 전송
+	if (!bodyLogger.isSampled(request)) {
+	    filterChain.doFilter(request, response);
+	    return;
+	}
 
-	// 요청 쿼리 본문
-	log.info("Response Body: {}", new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+	RequestWrapper requestWrapper = new RequestWrapper(request, bodyLogger.getMaxBytes());
+	ResponseWrapper responseWrapper = new ResponseWrapper(response, bodyLogger.getBufferPool());
 
-	// 응답 본문을 원래 응답에 복사
-	responseWrapper.copyBodyToResponse();
+	// 필터 체인 실행 (응답은 바로 전송되고 앞부분만 복사됨)
+	try {
+	    filterChain.doFilter(requestWrapper, responseWrapper);
+	    responseWrapper.flushWriter();
+	} finally {
+	    // 요청/응답 본문은 백그라운드에서 기록 (처리 중 예외가 발생해도 기록하고 복사용 버퍼를 반환)
+	    bodyLogger.publish(requestWrapper, responseWrapper);
+	}
 
     }
+
 }
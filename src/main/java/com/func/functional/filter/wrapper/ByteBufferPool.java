@@ -0,0 +1,65 @@
+package com.func.functional.filter.wrapper;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * ByteBufferPool 클래스
+ *
+ * 응답 본문의 앞부분을 복사할 고정 크기 {@link ByteBuffer}를 재사용하기 위한 풀입니다. 풀이 비어 있으면 새로 생성하고, 풀이 가득
+ * 차면 반환된 버퍼는 버립니다.
+ */
+public class ByteBufferPool {
+
+    /** 버퍼 크기 */
+    private final int bufferSize;
+
+    /** direct 버퍼 사용 여부 */
+    private final boolean direct;
+
+    /** 재사용 대기 중인 버퍼 */
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    /**
+     * 생성자
+     *
+     * @param bufferSize 버퍼 크기
+     * @param poolSize   보관할 최대 버퍼 수
+     * @param direct     direct 버퍼 사용 여부
+     */
+    public ByteBufferPool(int bufferSize, int poolSize, boolean direct) {
+	this.bufferSize = Math.max(bufferSize, 0);
+	this.direct = direct;
+	this.buffers = new ArrayBlockingQueue<>(Math.max(poolSize, 1));
+    }
+
+    /**
+     * 버퍼를 가져옵니다.
+     *
+     * @return 비어 있는 버퍼 (버퍼 크기가 0이면 {@code null})
+     */
+    public ByteBuffer acquire() {
+	if (bufferSize == 0) {
+	    return null;
+	}
+
+	ByteBuffer buffer = buffers.poll();
+	if (buffer == null) {
+	    buffer = direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+	}
+	return buffer;
+    }
+
+    /**
+     * 사용이 끝난 버퍼를 반환합니다.
+     *
+     * @param buffer 버퍼 ({@code null}이면 무시)
+     */
+    public void release(ByteBuffer buffer) {
+	if (buffer != null) {
+	    buffer.clear();
+	    buffers.offer(buffer);
+	}
+    }
+}
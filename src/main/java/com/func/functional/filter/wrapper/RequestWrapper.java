@@ -1,7 +1,10 @@
 package com.func.functional.filter.wrapper;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
@@ -12,71 +15,104 @@ import jakarta.servlet.http.HttpServletRequestWrapper;
 
 /**
  * RequestWrapper 클래스
- * 
- * {@link HttpServletRequestWrapper}를 확장하여 요청 본문을 캐시하고 요청 본문을 문자열로 쉽게 가져올 수 있는
- * 기능을 추가합니다.
+ *
+ * {@link HttpServletRequestWrapper}를 확장하여 요청 본문을 필터 체인에 그대로 전달하면서, 읽힌 본문의 앞부분을 최대 길이까지만
+ * 복사해 두는 기능을 추가합니다. 본문을 미리 읽지 않으므로 요청 크기와 관계없이 요청당 메모리 사용량이 최대 길이로 제한됩니다.
  */
 public class RequestWrapper extends HttpServletRequestWrapper {
 
-    /** 요청 본문을 저장하는 바이트 배열 */
-    private final byte[] body;
+    /** 복사 버퍼의 초기 크기 */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** 복사할 최대 길이 */
+    private final int maxBytes;
+
+    /** 요청 본문의 앞부분을 복사한 바이트 배열 */
+    private byte[] content = new byte[0];
+
+    /** 복사된 길이 */
+    private int contentSize;
+
+    /** 읽힌 요청 본문의 전체 길이 */
+    private long bodyLength;
+
+    /** 본문을 복사하며 전달하는 InputStream */
+    private ServletInputStream inputStream;
+
+    /** 본문을 복사하며 전달하는 Reader */
+    private BufferedReader reader;
 
     /**
      * 생성자
-     * 
-     * @param request 원래의 HttpServletRequest 객체
-     * @throws IOException 요청 본문을 읽는 동안 발생할 수 있는 예외
+     *
+     * @param request  원래의 HttpServletRequest 객체
+     * @param maxBytes 복사할 최대 길이
      */
-    public RequestWrapper(HttpServletRequest request) throws IOException {
+    public RequestWrapper(HttpServletRequest request, int maxBytes) {
 	super(request);
-	// 요청 본문을 바이트 배열로 읽어 저장
-	body = request.getInputStream().readAllBytes();
-	System.out.println("Request Body Bytes: " + Arrays.toString(body));
+	this.maxBytes = Math.max(maxBytes, 0);
     }
 
     /**
-     * 요청 본문을 문자열로 가져옵니다.
-     * 
-     * @return 요청 본문을 UTF-8 인코딩으로 변환한 문자열
+     * 복사된 요청 본문을 문자열로 가져옵니다.
+     *
+     * @return 복사된 요청 본문을 UTF-8 인코딩으로 변환한 문자열
      */
     public String getBody() {
-	return new String(body, StandardCharsets.UTF_8);
+	return new String(content, 0, contentSize, StandardCharsets.UTF_8);
     }
 
     /**
-     * InputStream 재정의: 요청 본문을 필터 체인에서 다시 읽을 수 있도록 처리.
-     * 
-     * @return 새롭게 만든 ServletInputStream
+     * 복사된 요청 본문을 바이트 배열로 가져옵니다.
+     *
+     * @return 요청 본문의 앞부분 (최대 길이까지)
      */
-    @Override
-    public ServletInputStream getInputStream() {
-	final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(body);
-
-	return new ServletInputStream() {
-	    @Override
-	    public int read() throws IOException {
-		// ByteArrayInputStream에서 바이트를 읽음
-		return byteArrayInputStream.read();
-	    }
+    public byte[] getContentAsByteArray() {
+	return Arrays.copyOf(content, contentSize);
+    }
 
-	    @Override
-	    public boolean isFinished() {
-		// 모든 바이트가 읽혔는지 확인
-		return byteArrayInputStream.available() == 0;
-	    }
+    /**
+     * 지금까지 읽힌 요청 본문의 전체 길이를 가져옵니다.
+     *
+     * @return 읽힌 길이 (복사되지 않은 부분 포함)
+     */
+    public long getBodyLength() {
+	return bodyLength;
+    }
 
-	    @Override
-	    public boolean isReady() {
-		// 읽을 준비가 되었는지 확인
-		return true;
-	    }
+    /**
+     * InputStream 재정의: 원래의 요청 본문을 그대로 전달하면서 앞부분을 복사합니다.
+     *
+     * @return 본문을 복사하며 전달하는 ServletInputStream
+     * @throws IOException 원래의 InputStream을 가져오는 동안 발생할 수 있는 예외
+     */
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+	if (inputStream == null) {
+	    inputStream = new TeeInputStream(super.getInputStream());
+	}
+	return inputStream;
+    }
 
-	    @Override
-	    public void setReadListener(ReadListener readListener) {
-		// 리스너를 설정하는 메서드 (필요 시 구현)
+    /**
+     * Reader 재정의: {@link #getInputStream()}을 통해 읽어 본문이 복사되도록 합니다.
+     *
+     * @return 본문을 복사하며 전달하는 BufferedReader
+     * @throws IOException 원래의 InputStream을 가져오는 동안 발생할 수 있는 예외
+     */
+    @Override
+    public BufferedReader getReader() throws IOException {
+	if (reader == null) {
+	    String encoding = getCharacterEncoding();
+	    Charset charset;
+	    try {
+		charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+	    } catch (IllegalArgumentException e) {
+		throw new UnsupportedEncodingException(encoding);
 	    }
-
-	};
+	    reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+	return reader;
     }
 
     /**
@@ -89,4 +125,79 @@ public class RequestWrapper extends HttpServletRequestWrapper {
 	// 부모 클래스의 getQueryString 메서드를 호출하여 쿼리 문자열 반환
 	return super.getQueryString();
     }
+
+    /**
+     * 읽힌 데이터를 최대 길이까지 복사합니다.
+     *
+     * @param buffer 읽힌 데이터
+     * @param offset 시작 위치
+     * @param length 길이
+     */
+    private void capture(byte[] buffer, int offset, int length) {
+	bodyLength += length;
+
+	int copyLength = Math.min(length, maxBytes - contentSize);
+	if (copyLength <= 0) {
+	    return;
+	}
+
+	if (contentSize + copyLength > content.length) {
+	    int capacity = Math.min(maxBytes, Math.max(Math.max(INITIAL_CAPACITY, content.length << 1), contentSize + copyLength));
+	    content = Arrays.copyOf(content, capacity);
+	}
+	System.arraycopy(buffer, offset, content, contentSize, copyLength);
+	contentSize += copyLength;
+    }
+
+    /**
+     * 원래의 InputStream에서 읽은 데이터를 그대로 반환하면서 복사하는 ServletInputStream
+     */
+    private class TeeInputStream extends ServletInputStream {
+
+	/** 원래의 InputStream */
+	private final ServletInputStream delegate;
+
+	/** 한 바이트 읽기용 버퍼 */
+	private final byte[] single = new byte[1];
+
+	TeeInputStream(ServletInputStream delegate) {
+	    this.delegate = delegate;
+	}
+
+	@Override
+	public int read() throws IOException {
+	    int value = delegate.read();
+	    if (value >= 0) {
+		single[0] = (byte) value;
+		capture(single, 0, 1);
+	    }
+	    return value;
+	}
+
+	@Override
+	public int read(byte[] buffer, int offset, int length) throws IOException {
+	    int count = delegate.read(buffer, offset, length);
+	    if (count > 0) {
+		capture(buffer, offset, count);
+	    }
+	    return count;
+	}
+
+	@Override
+	public boolean isFinished() {
+	    // 모든 바이트가 읽혔는지 확인
+	    return delegate.isFinished();
+	}
+
+	@Override
+	public boolean isReady() {
+	    // 읽을 준비가 되었는지 확인
+	    return delegate.isReady();
+	}
+
+	@Override
+	public void setReadListener(ReadListener readListener) {
+	    delegate.setReadListener(readListener);
+	}
+    }
 }
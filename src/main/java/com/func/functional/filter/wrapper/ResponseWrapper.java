@@ -1,34 +1,194 @@
 package com.func.functional.filter.wrapper;
 
-import java.nio.charset.StandardCharsets;
-
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
 
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 
 /**
  * ResponseWrapper 클래스
- * 
- * {@link ContentCachingResponseWrapper}를 확장하여 응답 본문을 캐시하고 응답 본문을 문자열로 쉽게 가져올 수
- * 있는 기능을 추가합니다.
+ *
+ * {@link HttpServletResponseWrapper}를 확장하여 응답 본문을 클라이언트에 바로 전송하면서, 앞부분을 풀에서 가져온 버퍼의 크기만큼만
+ * 복사해 두는 기능을 추가합니다. 응답을 모아두지 않으므로 첫 바이트 전송이 지연되지 않고, 요청당 추가 메모리는 버퍼 하나로
+ * 제한됩니다.
  */
-public class ResponseWrapper extends ContentCachingResponseWrapper {
+public class ResponseWrapper extends HttpServletResponseWrapper {
+
+    /** 복사용 버퍼 풀 */
+    private final ByteBufferPool bufferPool;
+
+    /** 응답 본문의 앞부분을 복사한 버퍼 (첫 쓰기 시 가져옴) */
+    private ByteBuffer content;
+
+    /** 전송된 응답 본문의 전체 길이 */
+    private long bodyLength;
+
+    /** 본문을 복사하며 전달하는 OutputStream */
+    private ServletOutputStream outputStream;
+
+    /** 본문을 복사하며 전달하는 Writer */
+    private PrintWriter writer;
 
     /**
      * 생성자
-     * 
-     * @param response 원래의 HttpServletResponse 객체
+     *
+     * @param response   원래의 HttpServletResponse 객체
+     * @param bufferPool 복사용 버퍼 풀
      */
-    public ResponseWrapper(HttpServletResponse response) {
+    public ResponseWrapper(HttpServletResponse response, ByteBufferPool bufferPool) {
 	super(response);
+	this.bufferPool = bufferPool;
+    }
+
+    /**
+     * OutputStream 재정의: 원래의 응답에 바로 쓰면서 앞부분을 복사합니다.
+     *
+     * @return 본문을 복사하며 전달하는 ServletOutputStream
+     * @throws IOException 원래의 OutputStream을 가져오는 동안 발생할 수 있는 예외
+     */
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+	if (writer != null) {
+	    throw new IllegalStateException("getWriter() has already been called on this response.");
+	}
+	if (outputStream == null) {
+	    outputStream = new TeeOutputStream(super.getOutputStream());
+	}
+	return outputStream;
+    }
+
+    /**
+     * Writer 재정의: {@link #getOutputStream()}을 통해 쓰여 본문이 복사되도록 합니다.
+     *
+     * @return 본문을 복사하며 전달하는 PrintWriter
+     * @throws IOException 원래의 OutputStream을 가져오는 동안 발생할 수 있는 예외
+     */
+    @Override
+    public PrintWriter getWriter() throws IOException {
+	if (writer == null) {
+	    if (outputStream != null) {
+		throw new IllegalStateException("getOutputStream() has already been called on this response.");
+	    }
+	    ServletOutputStream stream = new TeeOutputStream(super.getOutputStream());
+	    writer = new PrintWriter(new OutputStreamWriter(stream, getCharacterEncoding()));
+	    outputStream = stream;
+	}
+	return writer;
+    }
+
+    /**
+     * Writer에 남아 있는 내용을 응답에 쓴 후 버퍼를 비웁니다.
+     *
+     * @throws IOException 응답 출력 중 발생할 수 있는 예외
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+	flushWriter();
+	super.flushBuffer();
+    }
+
+    /**
+     * Writer에 남아 있는 내용을 응답에 씁니다. (응답을 확정하지 않음)
+     */
+    public void flushWriter() {
+	if (writer != null) {
+	    writer.flush();
+	}
     }
 
     /**
-     * 응답 본문을 문자열로 가져옵니다.
-     * 
-     * @return 응답 본문을 UTF-8 인코딩으로 변환한 문자열
+     * 복사된 응답 본문 버퍼를 가져옵니다. 버퍼의 소유권은 호출한 쪽으로 넘어가며, 사용 후 {@link ByteBufferPool#release(ByteBuffer)}로
+     * 반환해야 합니다.
+     *
+     * @return 읽기 상태의 버퍼 (쓰인 본문이 없으면 {@code null})
      */
-    public String getResponseBody() {
-	return new String(getContentAsByteArray(), StandardCharsets.UTF_8);
+    public ByteBuffer detachContent() {
+	ByteBuffer buffer = content;
+	content = null;
+	if (buffer != null) {
+	    buffer.flip();
+	}
+	return buffer;
+    }
+
+    /**
+     * 전송된 응답 본문의 전체 길이를 가져옵니다.
+     *
+     * @return 전송된 길이 (복사되지 않은 부분 포함)
+     */
+    public long getBodyLength() {
+	return bodyLength;
+    }
+
+    /**
+     * 전송된 데이터를 버퍼의 크기만큼 복사합니다.
+     *
+     * @param buffer 전송된 데이터
+     * @param offset 시작 위치
+     * @param length 길이
+     */
+    private void capture(byte[] buffer, int offset, int length) {
+	if (bodyLength == 0 && length > 0) {
+	    content = bufferPool.acquire();
+	}
+	bodyLength += length;
+
+	if (content != null && content.hasRemaining()) {
+	    content.put(buffer, offset, Math.min(length, content.remaining()));
+	}
+    }
+
+    /**
+     * 원래의 OutputStream에 바로 쓰면서 복사하는 ServletOutputStream
+     */
+    private class TeeOutputStream extends ServletOutputStream {
+
+	/** 원래의 OutputStream */
+	private final ServletOutputStream delegate;
+
+	/** 한 바이트 쓰기용 버퍼 */
+	private final byte[] single = new byte[1];
+
+	TeeOutputStream(ServletOutputStream delegate) {
+	    this.delegate = delegate;
+	}
+
+	@Override
+	public void write(int value) throws IOException {
+	    delegate.write(value);
+	    single[0] = (byte) value;
+	    capture(single, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] buffer, int offset, int length) throws IOException {
+	    delegate.write(buffer, offset, length);
+	    capture(buffer, offset, length);
+	}
+
+	@Override
+	public void flush() throws IOException {
+	    delegate.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+	    delegate.close();
+	}
+
+	@Override
+	public boolean isReady() {
+	    return delegate.isReady();
+	}
+
+	@Override
+	public void setWriteListener(WriteListener writeListener) {
+	    delegate.setWriteListener(writeListener);
+	}
     }
 }
@@ -2,17 +2,23 @@ package com.func.functional.http.client;
 
 import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.RequestBodyUriSpec;
 import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
 
+import com.func.functional.configs.properties.ApiServerConfigProperties.ResolvedEndpoint;
 import com.func.functional.utils.ServletUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * Spring WebFlux의 WebClient를 사용하여 비동기 및 논블로킹 HTTP 요청을 수행하는 클래스입니다.
@@ -22,11 +28,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class HttpClient {
 
-    /** WebClient 인스턴스 */
-    private final WebClient webClient;
+    /** API 서버별 WebClient */
+    private final WebClientRegistry webClientRegistry;
+
+    /** 외부 API 응답 캐시 */
+    private final HttpResponseCache responseCache;
 
     /**
-     * 주어진 URI로 HTTP 요청을 수행하고 응답을 지정된 타입으로 반환합니다.
+     * 주어진 URI로 HTTP 요청을 수행하고 응답을 지정된 타입으로 반환합니다. ({@link #requestAsync}의 결과를 기다림)
      *
      * @param <T>          응답 타입
      * @param method       HTTP 메서드 (GET, POST, PUT, DELETE 등)
@@ -36,25 +45,160 @@ public class HttpClient {
      * @return 요청에 대한 응답을 매핑한 객체
      */
     public <T> T request(HttpMethod httpMethod, URI requestUri, Object requestPayload, Class<T> responseType) {
+        return request((ResolvedEndpoint) null, httpMethod, requestUri, requestPayload, responseType);
+    }
+
+    /**
+     * 지정된 API 서버의 WebClient로 HTTP 요청을 수행하고 응답을 지정된 타입으로 반환합니다. ({@link #requestAsync}의 결과를
+     * 기다림)
+     *
+     * @param <T>            응답 타입
+     * @param endpoint       API 엔드포인트 정보 (null이면 기본 WebClient 사용)
+     * @param httpMethod     HTTP 메서드 (GET, POST, PUT, DELETE 등)
+     * @param requestUri     요청할 URI
+     * @param requestPayload 요청 본문 (POST, PUT 요청 시 사용)
+     * @param responseType   응답을 매핑할 타입
+     * @return 요청에 대한 응답을 매핑한 객체
+     */
+    public <T> T request(ResolvedEndpoint endpoint, HttpMethod httpMethod, URI requestUri, Object requestPayload, Class<T> responseType) {
+        return requestAsync(endpoint, httpMethod, requestUri, requestPayload, responseType).block(); // 응답을 블로킹 방식으로 기다림
+    }
+
+    /**
+     * 주어진 URI로 HTTP 요청을 수행하고 응답을 지정된 타입으로 변환하는 {@link Mono}를 반환합니다.
+     *
+     * <p>
+     * 요청은 구독 시점에 수행되며 응답을 기다리는 동안 스레드를 점유하지 않습니다. {@link CompletableFuture}가 필요하면
+     * {@link Mono#toFuture()}를 사용합니다.
+     * </p>
+     *
+     * @param <T>            응답 타입
+     * @param httpMethod     HTTP 메서드 (GET, POST, PUT, DELETE 등)
+     * @param requestUri     요청할 URI
+     * @param requestPayload 요청 본문 (POST, PUT 요청 시 사용)
+     * @param responseType   응답을 매핑할 타입
+     * @return 요청에 대한 응답을 매핑한 객체를 발행하는 Mono
+     */
+    public <T> Mono<T> requestAsync(HttpMethod httpMethod, URI requestUri, Object requestPayload, Class<T> responseType) {
+        return requestAsync((ResolvedEndpoint) null, httpMethod, requestUri, requestPayload, responseType);
+    }
+
+    /**
+     * 지정된 API 서버의 WebClient로 HTTP 요청을 수행하고 응답을 지정된 타입으로 변환하는 {@link Mono}를 반환합니다.
+     *
+     * <p>
+     * 서버마다 전용 커넥션 풀과 제한 시간을 사용하므로, 한 서버의 응답 지연이 다른 서버로의 요청을 막지 않습니다.
+     * </p>
+     *
+     * @param <T>            응답 타입
+     * @param endpoint       API 엔드포인트 정보 (null이면 기본 WebClient 사용)
+     * @param httpMethod     HTTP 메서드 (GET, POST, PUT, DELETE 등)
+     * @param requestUri     요청할 URI
+     * @param requestPayload 요청 본문 (POST, PUT 요청 시 사용)
+     * @param responseType   응답을 매핑할 타입
+     * @return 요청에 대한 응답을 매핑한 객체를 발행하는 Mono
+     */
+    public <T> Mono<T> requestAsync(ResolvedEndpoint endpoint, HttpMethod httpMethod, URI requestUri, Object requestPayload, Class<T> responseType) {
+        // 요청 헤더는 호출한 (요청 처리) 스레드에서 읽어야 하므로 바로 기록
         interfaceLog(httpMethod, requestUri, requestPayload);
 
-        RequestHeadersSpec<?> requestSpec = createRequestSpec(httpMethod, requestUri, requestPayload);
+        RequestHeadersSpec<?> requestSpec = createRequestSpec(endpoint, httpMethod, requestUri, requestPayload);
         return requestSpec // 요청할 URI 설정
                 .retrieve() // 요청 수행 및 응답 수신
-                .bodyToMono(responseType) // 응답 본문을 지정된 타입으로 변환
-                .block(); // 응답을 블로킹 방식으로 기다림
+                .bodyToMono(responseType); // 응답 본문을 지정된 타입으로 변환
+    }
+
+    /**
+     * 응답 캐시를 사용하여 GET 요청을 수행하고 응답을 지정된 타입으로 변환하는 {@link Mono}를 반환합니다.
+     *
+     * <p>
+     * 캐시된 응답이 유효 기간 내이면 외부 API를 호출하지 않습니다. 유효 기간이 지났으면 {@code If-None-Match}/
+     * {@code If-Modified-Since}로 재검증하여, 변경되지 않았으면(304) 캐시된 응답을 반환합니다. 새 응답은 Cache-Control에 따라
+     * 저장됩니다.
+     * </p>
+     *
+     * @param <T>          응답 타입
+     * @param endpoint     API 엔드포인트 정보 (null이면 기본 WebClient 사용)
+     * @param requestUri   요청할 URI
+     * @param responseType 응답을 매핑할 타입
+     * @return 요청에 대한 응답을 매핑한 객체를 발행하는 Mono
+     */
+    public <T> Mono<T> requestCachedAsync(ResolvedEndpoint endpoint, URI requestUri, Class<T> responseType) {
+        return requestCachedAsync(endpoint, requestUri, responseType, UnaryOperator.identity());
+    }
+
+    /**
+     * 응답 캐시를 사용하여 GET 요청을 수행합니다. 캐시로 응답할 수 없어 외부 API를 호출하는 경우에만 주어진 함수를 적용합니다.
+     *
+     * @param <T>               응답 타입
+     * @param endpoint          API 엔드포인트 정보 (null이면 기본 WebClient 사용)
+     * @param requestUri        요청할 URI
+     * @param responseType      응답을 매핑할 타입
+     * @param exchangeDecorator 외부 API 호출(구독할 때마다 요청을 보내는 Mono)에 적용할 함수
+     * @return 요청에 대한 응답을 매핑한 객체를 발행하는 Mono
+     */
+    public <T> Mono<T> requestCachedAsync(ResolvedEndpoint endpoint, URI requestUri, Class<T> responseType, UnaryOperator<Mono<T>> exchangeDecorator) {
+        HttpResponseCache.Key key = new HttpResponseCache.Key(requestUri, responseType);
+        HttpResponseCache.CachedResponse cached = responseCache.get(key);
+
+        if (cached != null && cached.isFresh(System.currentTimeMillis())) {
+            return Mono.just(responseType.cast(cached.body()));
+        }
+
+        interfaceLog(HttpMethod.GET, requestUri, null);
+
+        RequestHeadersSpec<?> requestSpec = createRequestSpec(endpoint, HttpMethod.GET, requestUri, null);
+        if (cached != null) {
+            // 검증자로 조건부 요청
+            requestSpec.headers(headers -> {
+                if (cached.eTag() != null) {
+                    headers.setIfNoneMatch(cached.eTag());
+                }
+                if (cached.lastModified() != null) {
+                    headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                }
+            });
+        }
+
+        return exchangeDecorator.apply(requestSpec.exchangeToMono(response -> {
+            HttpHeaders headers = response.headers().asHttpHeaders();
+
+            if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                HttpResponseCache.CachedResponse refreshed = responseCache.notModified(key, cached, headers);
+                return response.releaseBody().thenReturn(responseType.cast(refreshed.body()));
+            }
+            if (!response.statusCode().is2xxSuccessful()) {
+                return response.createError();
+            }
+
+            // 본문을 변환하면서 크기를 계산
+            LongAdder size = new LongAdder();
+            return response.mutate()
+                    .body(body -> body.doOnNext(buffer -> size.add(buffer.readableByteCount())))
+                    .build()
+                    .bodyToMono(responseType)
+                    .doOnNext(body -> responseCache.put(key, body, size.sum(), headers, cached != null));
+        }));
     }
 
     /**
      * HTTP 메서드와 URI에 따라 적절한 요청 사양(Request Specification)을 생성합니다.
      *
+     * <p>
+     * 엔드포인트 서버의 WebClient를 사용하며, 호출 시간 지표에 사용할 엔드포인트 키를 요청 속성으로 전달합니다.
+     * </p>
+     *
+     * @param endpoint    API 엔드포인트 정보 (null이면 기본 WebClient 사용)
      * @param method      HTTP 메서드
      * @param fullUrl     요청할 URI
      * @param requestBody 요청 본문 (POST, PUT, DELETE 요청 시 사용)
      * @return 생성된 RequestHeadersSpec 객체
      */
-    private RequestHeadersSpec<?> createRequestSpec(HttpMethod httpMethod, URI requestUri, Object requestPayload) {
-        RequestBodyUriSpec uriSpec = webClient.method(httpMethod);
+    private RequestHeadersSpec<?> createRequestSpec(ResolvedEndpoint endpoint, HttpMethod httpMethod, URI requestUri, Object requestPayload) {
+        RequestBodyUriSpec uriSpec = webClientRegistry.get(endpoint == null ? null : endpoint.serverName()).method(httpMethod);
+        if (endpoint != null) {
+            uriSpec.attribute(HttpClientMetrics.ENDPOINT_ATTRIBUTE, endpoint.endpointKey());
+        }
 
         if (httpMethod == HttpMethod.POST || httpMethod == HttpMethod.PUT || httpMethod == HttpMethod.DELETE) {
             return uriSpec.uri(requestUri).bodyValue(requestPayload);
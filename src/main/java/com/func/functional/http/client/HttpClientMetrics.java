@@ -0,0 +1,97 @@
+package com.func.functional.http.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API 호출 시간을 기록하는 클래스입니다.
+ *
+ * <p>
+ * 요청 전송부터 응답 본문을 모두 읽을 때까지의 시간을 {@code api.client.requests} 타이머에 서버, 엔드포인트, HTTP 메서드, 상태
+ * 코드별로 기록합니다. 타이머는 백분위 히스토그램을 사용하므로 기록 시 잠금이 없고 높은 백분위수(p99, p99.9)도 정확히 계산됩니다.
+ * 연결 실패나 제한 시간 초과처럼 응답을 받지 못한 경우 상태는 {@code IO_ERROR}, 응답 전에 취소된 경우(추가 요청 등)
+ * {@code CANCELLED}로 기록됩니다.
+ * </p>
+ *
+ * <p>
+ * 커넥션 풀 대기 시간과 연결 수(active, idle, pending)는 Reactor Netty의 {@code reactor.netty.connection.provider.*}
+ * 지표로, 연결/응답 단계별 시간은 {@code reactor.netty.http.client.*} 지표로 노출됩니다. ({@link WebClientRegistry} 참고)
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpClientMetrics {
+
+    /** 엔드포인트 키를 전달하는 요청 속성 이름 */
+    public static final String ENDPOINT_ATTRIBUTE = HttpClientMetrics.class.getName() + ".endpoint";
+
+    /** 엔드포인트를 알 수 없는 경우의 태그 값 */
+    private static final String UNKNOWN = "none";
+
+    /** MeterRegistry */
+    private final MeterRegistry meterRegistry;
+
+    /** 외부 API 호출 시간 타이머 */
+    private MeterProvider<Timer> requestTimer;
+
+    /**
+     * 타이머를 설정합니다.
+     */
+    @PostConstruct
+    void initialize() {
+        requestTimer = Timer.builder("api.client.requests")
+                .description("Outbound API exchange time until the response body is consumed")
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * 서버의 WebClient에 적용할 호출 시간 기록 필터를 생성합니다.
+     *
+     * @param serverName API 서버 이름
+     * @return 호출 시간 기록 필터
+     */
+    public ExchangeFilterFunction filter(String serverName) {
+        return (request, next) -> {
+            long start = System.nanoTime();
+
+            return next.exchange(request)
+                    .doOnError(e -> record(serverName, request, "IO_ERROR", start))
+                    .doOnCancel(() -> record(serverName, request, "CANCELLED", start))
+                    .map(response -> {
+                        String status = String.valueOf(response.statusCode().value());
+                        // 응답 본문을 모두 읽거나 (버리거나) 취소할 때 기록
+                        return response.mutate().body(body -> body.doFinally(signal -> record(serverName, request, status, start))).build();
+                    });
+        };
+    }
+
+    /**
+     * 호출 시간을 기록합니다.
+     *
+     * @param serverName API 서버 이름
+     * @param request    요청
+     * @param status     상태 (상태 코드, IO_ERROR, CANCELLED)
+     * @param start      요청 시작 시각 (System.nanoTime)
+     */
+    private void record(String serverName, ClientRequest request, String status, long start) {
+        String endpoint = request.attribute(ENDPOINT_ATTRIBUTE).map(Object::toString).orElse(UNKNOWN);
+
+        requestTimer.withTags(Tags.of("server", serverName, "endpoint", endpoint, "method", request.method().name(), "status", status))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
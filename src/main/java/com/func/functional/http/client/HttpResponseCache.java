@@ -0,0 +1,328 @@
+package com.func.functional.http.client;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.func.functional.configs.properties.ApiServerConfigProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API의 GET 응답을 보관하는 캐시입니다.
+ *
+ * <p>
+ * 응답의 {@code Cache-Control}({@code max-age}, {@code s-maxage}, {@code no-cache}, {@code no-store},
+ * {@code private}) 또는 {@code Expires}로 유효 기간을 정하고, 유효 기간이 지난 응답은 {@code ETag}/{@code Last-Modified}로
+ * 재검증합니다. 검증자가 없는 응답은 유효 기간이 지나면 제거되고, 검증자가 있는 응답은 크기 한도에 따라 축출될 때까지 보관됩니다.
+ * {@code Vary: *} 응답은 저장하지 않습니다. 그 외의 {@code Vary}는 같은 URI에 대해 항상 같은 요청 헤더를 보내므로 URI와 응답
+ * 타입만으로 구분합니다.
+ * </p>
+ *
+ * <p>
+ * 캐시된 응답 객체는 여러 요청이 함께 사용하므로 변경하지 않아야 합니다. 적중률 등의 지표는
+ * {@code cache.*{cache=http.client.response}}로, 재검증 결과는 {@code http.client.cache.revalidations}로 노출됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpResponseCache {
+
+    /** 캐시 이름 (지표 태그) */
+    private static final String CACHE_NAME = "http.client.response";
+
+    /** 캐시 항목당 고정 크기 (키, 헤더 등) */
+    private static final int ENTRY_OVERHEAD = 256;
+
+    /** API 서버 설정 */
+    private final ApiServerConfigProperties apiServerConfigProperties;
+
+    /** MeterRegistry */
+    private final MeterRegistry meterRegistry;
+
+    /** 응답 캐시 */
+    private Cache<Key, CachedResponse> cache;
+
+    // 재검증 지표
+    private final LongAdder notModifiedCount = new LongAdder();
+    private final LongAdder modifiedCount = new LongAdder();
+
+    /**
+     * 설정된 한도로 캐시를 생성하고 지표를 등록합니다.
+     *
+     * <p>
+     * 항목 수와 크기의 합을 함께 제한하기 위해, 각 항목의 무게를 최소 (최대 크기 / 최대 항목 수)로 계산합니다.
+     * </p>
+     */
+    @PostConstruct
+    void initialize() {
+        ApiServerConfigProperties.ResponseCache properties = apiServerConfigProperties.getResponseCache();
+        long maxWeight = properties.getMaxSize().toBytes();
+        int minWeight = (int) Math.min(Integer.MAX_VALUE, Math.ceilDiv(maxWeight, Math.max(1, properties.getMaxEntries())));
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, CachedResponse value) -> Math.max(minWeight, value.size() + ENTRY_OVERHEAD))
+                .expireAfter(new ResponseExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        FunctionCounter.builder("http.client.cache.revalidations", notModifiedCount, LongAdder::sum).tag("result", "not_modified").register(meterRegistry);
+        FunctionCounter.builder("http.client.cache.revalidations", modifiedCount, LongAdder::sum).tag("result", "modified").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답을 반환합니다. 유효 기간이 지났더라도 재검증할 수 있으면 반환합니다.
+     *
+     * @param key 요청 키
+     * @return 캐시된 응답 또는 null
+     */
+    public CachedResponse get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 새로 받은 응답을 저장합니다. 저장할 수 없는 응답이면 기존 항목을 제거합니다.
+     *
+     * @param key          요청 키
+     * @param body         변환된 응답 본문
+     * @param size         응답 본문 크기 (바이트)
+     * @param headers      응답 헤더
+     * @param revalidation 재검증 요청에 대한 응답인지 여부
+     */
+    public void put(Key key, Object body, long size, HttpHeaders headers, boolean revalidation) {
+        if (revalidation) {
+            modifiedCount.increment();
+        }
+
+        CachedResponse response = CachedResponse.of(body, size, headers, System.currentTimeMillis());
+        if (response == null) {
+            cache.invalidate(key);
+        } else {
+            cache.put(key, response);
+        }
+    }
+
+    /**
+     * 재검증 결과 변경되지 않은 응답(304)의 유효 기간과 검증자를 갱신합니다.
+     *
+     * @param key     요청 키
+     * @param cached  재검증한 응답
+     * @param headers 304 응답 헤더
+     * @return 갱신된 응답
+     */
+    public CachedResponse notModified(Key key, CachedResponse cached, HttpHeaders headers) {
+        notModifiedCount.increment();
+
+        CachedResponse refreshed = cached.refresh(headers, System.currentTimeMillis());
+        cache.put(key, refreshed);
+        return refreshed;
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param requestUri   요청 URI
+     * @param responseType 응답의 타입
+     */
+    public record Key(URI requestUri, Class<?> responseType) {
+    }
+
+    /**
+     * 캐시된 응답
+     *
+     * @param body            변환된 응답 본문
+     * @param size            응답 본문 크기 (바이트)
+     * @param freshnessMillis 유효 기간 (ms)
+     * @param expiresAt       만료 시각 (epoch millis)
+     * @param eTag            ETag (없으면 null)
+     * @param lastModified    Last-Modified (없으면 null)
+     */
+    public record CachedResponse(Object body, int size, long freshnessMillis, long expiresAt, String eTag, String lastModified) {
+
+        /**
+         * 유효 기간 내인지 확인합니다.
+         *
+         * @param now 현재 시각 (epoch millis)
+         * @return 재검증 없이 사용할 수 있으면 {@code true}
+         */
+        public boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+
+        /**
+         * 재검증할 수 있는지 확인합니다.
+         *
+         * @return ETag 또는 Last-Modified가 있으면 {@code true}
+         */
+        public boolean hasValidators() {
+            return eTag != null || lastModified != null;
+        }
+
+        /**
+         * 응답 헤더로 캐시 항목을 생성합니다.
+         *
+         * @param body    변환된 응답 본문
+         * @param size    응답 본문 크기 (바이트)
+         * @param headers 응답 헤더
+         * @param now     현재 시각 (epoch millis)
+         * @return 캐시 항목 또는 null (저장할 수 없는 응답)
+         */
+        static CachedResponse of(Object body, long size, HttpHeaders headers, long now) {
+            CacheControl cacheControl = CacheControl.parse(headers);
+            if (cacheControl.noStore() || headers.getVary().contains("*") || size > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            long freshnessMillis = cacheControl.freshnessMillis(headers);
+            String eTag = headers.getETag();
+            String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+
+            // 유효 기간도 검증자도 없으면 다시 사용할 수 없음
+            if (freshnessMillis <= 0 && eTag == null && lastModified == null) {
+                return null;
+            }
+            return new CachedResponse(body, (int) size, freshnessMillis, now + freshnessMillis, eTag, lastModified);
+        }
+
+        /**
+         * 304 응답 헤더로 유효 기간과 검증자를 갱신한 항목을 반환합니다.
+         *
+         * @param headers 304 응답 헤더
+         * @param now     현재 시각 (epoch millis)
+         * @return 갱신된 항목
+         */
+        CachedResponse refresh(HttpHeaders headers, long now) {
+            // 304 응답에 캐시 관련 헤더가 없으면 기존 유효 기간을 유지
+            long freshness = headers.getCacheControl() != null || headers.getExpires() >= 0 ? CacheControl.parse(headers).freshnessMillis(headers)
+                    : freshnessMillis;
+            String newETag = headers.getETag() != null ? headers.getETag() : eTag;
+            String newLastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED) != null ? headers.getFirst(HttpHeaders.LAST_MODIFIED) : lastModified;
+            return new CachedResponse(body, size, freshness, now + freshness, newETag, newLastModified);
+        }
+    }
+
+    /**
+     * Cache-Control 지시어
+     *
+     * @param noStore no-store 또는 private (공유 캐시에 저장 불가)
+     * @param noCache no-cache (매번 재검증)
+     * @param maxAge  max-age (초, 없으면 -1)
+     * @param sMaxAge s-maxage (초, 없으면 -1)
+     */
+    private record CacheControl(boolean noStore, boolean noCache, long maxAge, long sMaxAge) {
+
+        /**
+         * 응답 헤더의 Cache-Control을 파싱합니다.
+         *
+         * @param headers 응답 헤더
+         * @return Cache-Control 지시어
+         */
+        static CacheControl parse(HttpHeaders headers) {
+            boolean noStore = false;
+            boolean noCache = false;
+            long maxAge = -1;
+            long sMaxAge = -1;
+
+            for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+                for (String directive : StringUtils.tokenizeToStringArray(value.toLowerCase(Locale.ROOT), ",")) {
+                    if ("no-store".equals(directive) || directive.startsWith("private")) {
+                        noStore = true;
+                    } else if (directive.startsWith("no-cache")) {
+                        noCache = true;
+                    } else if (directive.startsWith("max-age=")) {
+                        maxAge = seconds(directive.substring("max-age=".length()));
+                    } else if (directive.startsWith("s-maxage=")) {
+                        sMaxAge = seconds(directive.substring("s-maxage=".length()));
+                    }
+                }
+            }
+            return new CacheControl(noStore, noCache, maxAge, sMaxAge);
+        }
+
+        /**
+         * 유효 기간을 계산합니다. s-maxage, max-age, Expires 순으로 적용하며 Age만큼 뺍니다.
+         *
+         * @param headers 응답 헤더
+         * @return 유효 기간 (ms, 재검증이 필요하면 0)
+         */
+        long freshnessMillis(HttpHeaders headers) {
+            if (noCache) {
+                return 0;
+            }
+
+            long freshness;
+            if (sMaxAge >= 0) {
+                freshness = TimeUnit.SECONDS.toMillis(sMaxAge);
+            } else if (maxAge >= 0) {
+                freshness = TimeUnit.SECONDS.toMillis(maxAge);
+            } else if (headers.getExpires() >= 0) {
+                long date = headers.getDate() >= 0 ? headers.getDate() : System.currentTimeMillis();
+                freshness = headers.getExpires() - date;
+            } else {
+                return 0;
+            }
+
+            long age = seconds(headers.getFirst(HttpHeaders.AGE));
+            return Math.max(0, freshness - TimeUnit.SECONDS.toMillis(Math.max(0, age)));
+        }
+
+        /**
+         * 초 단위 값을 파싱합니다.
+         *
+         * @param value 문자열 값
+         * @return 초 (올바르지 않으면 -1)
+         */
+        private static long seconds(String value) {
+            if (value == null) {
+                return -1;
+            }
+            try {
+                return Long.parseLong(value.trim().replace("\"", ""));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * 캐시 항목의 만료 정책
+     *
+     * <p>
+     * 검증자가 없는 응답은 유효 기간이 지나면 제거하고, 검증자가 있는 응답은 재검증에 사용하기 위해 계속 보관합니다.
+     * </p>
+     */
+    private static class ResponseExpiry implements Expiry<Key, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(Key key, CachedResponse value, long currentTime) {
+            if (value.hasValidators()) {
+                return Long.MAX_VALUE;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
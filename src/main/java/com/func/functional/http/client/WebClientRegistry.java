@@ -0,0 +1,138 @@
+package com.func.functional.http.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.func.functional.configs.properties.ApiServerConfigProperties;
+import com.func.functional.configs.properties.ApiServerConfigProperties.ApiServer;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * API 서버별 WebClient를 관리하는 클래스입니다.
+ *
+ * <p>
+ * {@code api-server.servers}에 등록된 서버마다 전용 커넥션 풀과 연결/응답 제한 시간을 가진 WebClient를 생성합니다. 응답이
+ * 느린 서버가 있어도 해당 서버의 풀만 소진되므로 다른 서버로의 요청에는 영향을 주지 않습니다. 등록되지 않은 서버는 기본
+ * WebClient를 사용합니다. 커넥션 풀 지표(active, idle, pending 연결 수와 연결 대기 시간)는
+ * {@code reactor.netty.connection.provider.*}로, 호출 시간은 {@code api.client.requests}로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebClientRegistry {
+
+    /** API 서버 설정 */
+    private final ApiServerConfigProperties apiServerConfigProperties;
+
+    /** WebClient.Builder (서버별로 복제하여 사용) */
+    private final WebClient.Builder webClientBuilder;
+
+    /** 기본 WebClient */
+    private final WebClient webClient;
+
+    /** 외부 API 호출 시간 지표 */
+    private final HttpClientMetrics httpClientMetrics;
+
+    /** 서버 이름(소문자)별 WebClient */
+    private final Map<String, WebClient> webClients = new HashMap<>();
+
+    /** 서버별 커넥션 풀 (종료 시 해제) */
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+    /**
+     * 서버별 WebClient를 생성합니다.
+     */
+    @PostConstruct
+    void initialize() {
+        if (apiServerConfigProperties.getServers() == null) {
+            return;
+        }
+
+        for (ApiServer server : apiServerConfigProperties.getServers()) {
+            ConnectionProvider connectionProvider = createConnectionProvider(server);
+            connectionProviders.add(connectionProvider);
+
+            reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(server.getConnectTimeout().toMillis()))
+                    .responseTimeout(server.getResponseTimeout())
+                    // 연결, 요청 전송, 응답 대기 단계별 시간 (reactor.netty.http.client.*)
+                    .metrics(true, WebClientRegistry::stripQuery);
+
+            webClients.put(server.getName().toLowerCase(Locale.ROOT), webClientBuilder.clone()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .filter(httpClientMetrics.filter(server.getName()))
+                    .build());
+
+            if (log.isInfoEnabled()) {
+                log.info("WebClient for {} created: connectTimeout={}, responseTimeout={}, pool={}", server.getName(), server.getConnectTimeout(),
+                        server.getResponseTimeout(), server.getPool());
+            }
+        }
+    }
+
+    /**
+     * 서버별 커넥션 풀을 해제합니다.
+     */
+    @PreDestroy
+    void shutdown() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    /**
+     * 서버 이름에 해당하는 WebClient를 반환합니다.
+     *
+     * @param serverName API 서버 이름 (대소문자 구분 없음)
+     * @return 서버 전용 WebClient 또는 기본 WebClient (등록되지 않은 서버이거나 null인 경우)
+     */
+    public WebClient get(String serverName) {
+        if (serverName == null) {
+            return webClient;
+        }
+        return webClients.getOrDefault(serverName.toLowerCase(Locale.ROOT), webClient);
+    }
+
+    /**
+     * 지표의 URI 태그에서 쿼리 문자열을 제거합니다. (쿼리 파라미터마다 지표가 생성되지 않도록)
+     *
+     * @param uri 요청 URI
+     * @return 쿼리 문자열을 제외한 URI
+     */
+    private static String stripQuery(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+
+    /**
+     * 서버 설정에 따라 커넥션 풀을 생성합니다.
+     *
+     * @param server API 서버 설정
+     * @return 커넥션 풀
+     */
+    private static ConnectionProvider createConnectionProvider(ApiServer server) {
+        ApiServer.Pool pool = server.getPool();
+
+        return ConnectionProvider.builder(server.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInterval())
+                .metrics(true)
+                .build();
+    }
+}
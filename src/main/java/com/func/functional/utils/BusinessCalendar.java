@@ -0,0 +1,430 @@
+package com.func.functional.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 영업일(주말과 공휴일을 제외한 날) 정보를 제공하는 클래스입니다.
+ *
+ * <p>
+ * 주어진 연도 범위의 날짜를 연도 단위로 이어 붙인 비트셋(하루당 1비트)과 64일 단위의 누적 영업일 수(rank) 테이블로 보관합니다.
+ * 모든 날짜는 epoch day({@code int})로 다루며, 조회 중에는 {@link String}이나 {@link java.time.LocalDate}를
+ * 생성하지 않습니다. 범위를 벗어난 날짜는 주말만 제외한 것으로 간주합니다.
+ * </p>
+ *
+ * <p>
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 공유해도 안전합니다.
+ * </p>
+ */
+public final class BusinessCalendar {
+
+    /** 토요일 (0: 월요일 ~ 6: 일요일) */
+    private static final int SATURDAY = 5;
+
+    /** 시작 연도 */
+    private final int firstYear;
+
+    /** 종료 연도 */
+    private final int lastYear;
+
+    /** 비트셋의 첫 날 (firstYear년 1월 1일의 epoch day) */
+    private final int baseEpochDay;
+
+    /** 비트셋의 마지막 다음 날 ((lastYear + 1)년 1월 1일의 epoch day) */
+    private final int endEpochDay;
+
+    /** 영업일 비트셋 */
+    private final long[] words;
+
+    /** 각 word 이전까지의 누적 영업일 수 */
+    private final int[] ranks;
+
+    /** 전체 영업일 수 */
+    private final int totalBusinessDays;
+
+    /**
+     * 생성자
+     *
+     * @param firstYear 시작 연도
+     * @param lastYear  종료 연도
+     * @param holidays  공휴일 (epoch day, 순서 무관, 범위를 벗어난 날짜는 무시)
+     */
+    public BusinessCalendar(int firstYear, int lastYear, int[] holidays) {
+        this(firstYear, lastYear, businessDayWords(firstYear, lastYear, holidays));
+    }
+
+    /**
+     * 생성자 (영업일 비트셋으로 생성)
+     *
+     * @param firstYear 시작 연도
+     * @param lastYear  종료 연도
+     * @param words     firstYear년 1월 1일부터의 영업일 비트셋
+     */
+    private BusinessCalendar(int firstYear, int lastYear, long[] words) {
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.baseEpochDay = DateUtils.toEpochDay(firstYear, 1, 1);
+        this.endEpochDay = DateUtils.toEpochDay(lastYear + 1, 1, 1);
+        this.words = words;
+
+        // 누적 영업일 수 계산
+        this.ranks = new int[words.length];
+        int total = 0;
+        for (int i = 0; i < words.length; i++) {
+            ranks[i] = total;
+            total += Long.bitCount(words[i]);
+        }
+        this.totalBusinessDays = total;
+    }
+
+    /**
+     * 연속된 연도의 달력을 하나의 달력으로 합칩니다.
+     *
+     * <p>
+     * 각 달력의 비트셋을 비트 단위로 이어 붙이고 누적 영업일 수만 다시 계산하므로, 날짜별로 주말과 공휴일을 다시 판단하지 않습니다.
+     * (연도당 6개의 word) 달력이 하나이면 그대로 반환합니다.
+     * </p>
+     *
+     * @param calendars 연도 순서대로 정렬된, 빈 연도 없이 이어지는 달력 목록
+     * @return 합쳐진 달력
+     */
+    public static BusinessCalendar compose(List<BusinessCalendar> calendars) {
+        if (calendars.isEmpty()) {
+            throw new IllegalArgumentException("calendars must not be empty");
+        }
+        if (calendars.size() == 1) {
+            return calendars.get(0);
+        }
+
+        BusinessCalendar first = calendars.get(0);
+        BusinessCalendar last = calendars.get(calendars.size() - 1);
+        long[] words = new long[(last.endEpochDay - first.baseEpochDay + 63) >>> 6];
+
+        int expectedYear = first.firstYear;
+        for (BusinessCalendar calendar : calendars) {
+            if (calendar.firstYear != expectedYear) {
+                throw new IllegalArgumentException("calendars must cover consecutive years: expected " + expectedYear + " but was " + calendar.firstYear);
+            }
+            expectedYear = calendar.lastYear + 1;
+
+            // 비트셋 시작 위치에 맞춰 이어 붙임 (범위 이후의 비트는 항상 0)
+            int bitOffset = calendar.baseEpochDay - first.baseEpochDay;
+            int shift = bitOffset & 63;
+            for (int i = 0, index = bitOffset >>> 6; i < calendar.words.length; i++, index++) {
+                long word = calendar.words[i];
+                words[index] |= word << shift;
+                if (shift != 0 && index + 1 < words.length) {
+                    words[index + 1] |= word >>> (64 - shift);
+                }
+            }
+        }
+        return new BusinessCalendar(first.firstYear, last.lastYear, words);
+    }
+
+    /**
+     * 시작 연도를 반환합니다.
+     *
+     * @return 시작 연도
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * 종료 연도를 반환합니다.
+     *
+     * @return 종료 연도
+     */
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    /**
+     * 주어진 날짜가 영업일인지 확인합니다.
+     *
+     * @param epochDay 확인할 날짜 (epoch day)
+     * @return 영업일이면 {@code true}
+     */
+    public boolean isBusinessDay(int epochDay) {
+        if (epochDay < baseEpochDay || epochDay >= endEpochDay) {
+            return DateUtils.dayOfWeek(epochDay) < SATURDAY;
+        }
+
+        int offset = epochDay - baseEpochDay;
+        return (words[offset >>> 6] & (1L << offset)) != 0;
+    }
+
+    /**
+     * 두 날짜 사이(양 끝 포함)의 영업일 수를 반환합니다.
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param toEpochDay   종료 날짜 (epoch day)
+     * @return 영업일 수 (종료 날짜가 시작 날짜보다 앞서면 0)
+     */
+    public int businessDaysBetween(int fromEpochDay, int toEpochDay) {
+        if (toEpochDay < fromEpochDay) {
+            return 0;
+        }
+
+        long endExclusive = (long) toEpochDay + 1;
+        int count = 0;
+
+        // 범위 이전 구간
+        if (fromEpochDay < baseEpochDay) {
+            count += countWeekdays(fromEpochDay, Math.min(endExclusive, baseEpochDay));
+        }
+
+        // 범위 구간
+        int start = Math.max(fromEpochDay, baseEpochDay);
+        long end = Math.min(endExclusive, endEpochDay);
+        if (start < end) {
+            count += rank((int) end) - rank(start);
+        }
+
+        // 범위 이후 구간
+        if (endExclusive > endEpochDay) {
+            count += countWeekdays(Math.max(fromEpochDay, endEpochDay), endExclusive);
+        }
+        return count;
+    }
+
+    /**
+     * 주어진 날짜(포함) 이후의 n번째 영업일을 반환합니다.
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param n            0부터 시작하는 순번 (0이면 시작 날짜 이후 첫 영업일)
+     * @return n번째 영업일 (epoch day)
+     */
+    public int nthBusinessDay(int fromEpochDay, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+
+        int day = fromEpochDay;
+        int remaining = n;
+
+        // 범위 이전 구간
+        if (day < baseEpochDay) {
+            int weekdays = countWeekdays(day, baseEpochDay);
+            if (remaining < weekdays) {
+                return nthWeekday(day, remaining);
+            }
+            remaining -= weekdays;
+            day = baseEpochDay;
+        }
+
+        // 범위 구간
+        if (day < endEpochDay) {
+            long target = (long) rank(day) + remaining;
+            if (target < totalBusinessDays) {
+                return select((int) target);
+            }
+            remaining = (int) (target - totalBusinessDays);
+            day = endEpochDay;
+        }
+
+        // 범위 이후 구간
+        return nthWeekday(day, remaining);
+    }
+
+    /**
+     * 주어진 날짜(포함) 이후의 첫 영업일을 반환합니다.
+     *
+     * <p>
+     * 반복 조회 시 {@code day = nextBusinessDay(day + 1)} 형태로 사용하면 객체 생성 없이 영업일을 순회할 수 있습니다.
+     * </p>
+     *
+     * @param epochDay 시작 날짜 (epoch day)
+     * @return 첫 영업일 (epoch day)
+     */
+    public int nextBusinessDay(int epochDay) {
+        int day = epochDay;
+
+        while (day < baseEpochDay) {
+            if (DateUtils.dayOfWeek(day) < SATURDAY) {
+                return day;
+            }
+            day++;
+        }
+
+        if (day < endEpochDay) {
+            int offset = day - baseEpochDay;
+            int index = offset >>> 6;
+            long word = words[index] & (-1L << offset);
+
+            while (true) {
+                if (word != 0) {
+                    return baseEpochDay + (index << 6) + Long.numberOfTrailingZeros(word);
+                }
+                if (++index == words.length) {
+                    break;
+                }
+                word = words[index];
+            }
+            day = endEpochDay;
+        }
+
+        while (DateUtils.dayOfWeek(day) >= SATURDAY) {
+            day++;
+        }
+        return day;
+    }
+
+    /**
+     * 두 날짜 사이(양 끝 포함)의 영업일을 순서대로 전달합니다.
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param toEpochDay   종료 날짜 (epoch day)
+     * @param action       영업일(epoch day)을 전달받을 대상
+     */
+    public void forEachBusinessDay(int fromEpochDay, int toEpochDay, IntConsumer action) {
+        for (int day = nextBusinessDay(fromEpochDay); day <= toEpochDay; day = nextBusinessDay(day + 1)) {
+            action.accept(day);
+        }
+    }
+
+    /**
+     * 두 날짜 사이(양 끝 포함)의 영업일을 배열로 반환합니다.
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param toEpochDay   종료 날짜 (epoch day)
+     * @return 오름차순으로 정렬된 영업일 (epoch day)
+     */
+    public int[] businessDays(int fromEpochDay, int toEpochDay) {
+        int[] businessDays = new int[businessDaysBetween(fromEpochDay, toEpochDay)];
+        int count = 0;
+
+        for (int day = nextBusinessDay(fromEpochDay); count < businessDays.length; day = nextBusinessDay(day + 1)) {
+            businessDays[count++] = day;
+        }
+        return businessDays;
+    }
+
+    /**
+     * 주어진 연도 범위에서 주말과 공휴일을 제외한 영업일 비트셋을 생성합니다.
+     *
+     * @param firstYear 시작 연도
+     * @param lastYear  종료 연도
+     * @param holidays  공휴일 (epoch day, 순서 무관, 범위를 벗어난 날짜는 무시)
+     * @return 영업일 비트셋
+     */
+    private static long[] businessDayWords(int firstYear, int lastYear, int[] holidays) {
+        if (lastYear < firstYear) {
+            throw new IllegalArgumentException("lastYear must not be before firstYear: " + firstYear + " > " + lastYear);
+        }
+
+        int baseEpochDay = DateUtils.toEpochDay(firstYear, 1, 1);
+        int endEpochDay = DateUtils.toEpochDay(lastYear + 1, 1, 1);
+        int days = endEpochDay - baseEpochDay;
+        long[] words = new long[(days + 63) >>> 6];
+
+        // 주말을 제외한 날을 영업일로 설정
+        for (int offset = 0, dayOfWeek = DateUtils.dayOfWeek(baseEpochDay); offset < days; offset++) {
+            if (dayOfWeek < SATURDAY) {
+                words[offset >>> 6] |= 1L << offset;
+            }
+            dayOfWeek = dayOfWeek == 6 ? 0 : dayOfWeek + 1;
+        }
+
+        // 공휴일 제외
+        if (holidays != null) {
+            for (int holiday : holidays) {
+                if (holiday >= baseEpochDay && holiday < endEpochDay) {
+                    int offset = holiday - baseEpochDay;
+                    words[offset >>> 6] &= ~(1L << offset);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 비트셋 시작일부터 주어진 날짜 이전까지의 영업일 수를 반환합니다.
+     *
+     * @param epochDay 날짜 (baseEpochDay ~ endEpochDay)
+     * @return 누적 영업일 수
+     */
+    private int rank(int epochDay) {
+        if (epochDay >= endEpochDay) {
+            return totalBusinessDays;
+        }
+
+        int offset = epochDay - baseEpochDay;
+        int index = offset >>> 6;
+        return ranks[index] + Long.bitCount(words[index] & ((1L << offset) - 1));
+    }
+
+    /**
+     * 비트셋 시작일부터 k번째(0부터 시작) 영업일을 반환합니다.
+     *
+     * @param k 순번 (0 ~ totalBusinessDays - 1)
+     * @return k번째 영업일 (epoch day)
+     */
+    private int select(int k) {
+        // k번째 영업일을 포함하는 word를 찾음
+        int index = Arrays.binarySearch(ranks, k);
+        if (index < 0) {
+            index = -index - 2;
+        } else {
+            // 동일한 누적값을 가진 빈 word를 건너뜀
+            while (index + 1 < ranks.length && ranks[index + 1] == k) {
+                index++;
+            }
+        }
+
+        long word = words[index];
+        for (int i = k - ranks[index]; i > 0; i--) {
+            word &= word - 1;
+        }
+        return baseEpochDay + (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * 두 날짜 사이(시작 포함, 종료 미포함)의 평일 수를 반환합니다.
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param toExclusive  종료 날짜 (epoch day, 미포함)
+     * @return 평일 수
+     */
+    private static int countWeekdays(long fromEpochDay, long toExclusive) {
+        long days = toExclusive - fromEpochDay;
+        if (days <= 0) {
+            return 0;
+        }
+
+        // 7일에는 항상 5일의 평일이 포함됨
+        long count = days / 7 * 5;
+        int dayOfWeek = (int) Math.floorMod(fromEpochDay, 7L);
+        dayOfWeek = (dayOfWeek + 3) % 7;
+        for (long i = 0, rest = days % 7; i < rest; i++) {
+            if ((dayOfWeek + i) % 7 < SATURDAY) {
+                count++;
+            }
+        }
+        return (int) count;
+    }
+
+    /**
+     * 주어진 날짜(포함) 이후의 n번째 평일을 반환합니다.
+     *
+     * @param fromEpochDay 시작 날짜 (epoch day)
+     * @param n            0부터 시작하는 순번
+     * @return n번째 평일 (epoch day)
+     */
+    private static int nthWeekday(int fromEpochDay, int n) {
+        // 7일에는 항상 5일의 평일이 포함됨
+        int day = fromEpochDay + n / 5 * 7;
+        int remaining = n % 5;
+
+        while (true) {
+            if (DateUtils.dayOfWeek(day) < SATURDAY) {
+                if (remaining == 0) {
+                    return day;
+                }
+                remaining--;
+            }
+            day++;
+        }
+    }
+}
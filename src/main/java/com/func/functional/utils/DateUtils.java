@@ -131,6 +131,167 @@ public class DateUtils {
         return LocalDate.parse(dateStr, DateTimeFormatter.ofPattern(DEFAULT_DATE_FORMAT));
     }
 
+    /**
+     * yyyyMMdd 형식의 날짜 문자열을 epoch day(1970-01-01 기준 일수)로 변환합니다.
+     *
+     * <p>
+     * {@link LocalDate}나 부분 문자열을 생성하지 않고 문자를 직접 읽어 계산합니다. {@link LocalDate#parse}와 마찬가지로 존재하지
+     * 않는 날짜(예: 20231345, 20230231)는 허용하지 않습니다.
+     * </p>
+     *
+     * @param dateStr yyyyMMdd 형식의 날짜 문자열
+     * @return epoch day
+     *
+     * @throws IllegalArgumentException 날짜 형식이 잘못되었거나 존재하지 않는 날짜인 경우 발생
+     */
+    public static int toEpochDay(String dateStr) {
+        if (dateStr == null || dateStr.length() != 8) {
+            throw new IllegalArgumentException("Invalid date: " + dateStr);
+        }
+
+        int value = 0;
+        for (int i = 0; i < 8; i++) {
+            int digit = dateStr.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid date: " + dateStr);
+            }
+            value = value * 10 + digit;
+        }
+
+        int year = value / 10000;
+        int month = value / 100 % 100;
+        int day = value % 100;
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw new IllegalArgumentException("Invalid date: " + dateStr);
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * 해당 월의 일수를 반환합니다.
+     *
+     * @param year  연도
+     * @param month 월 (1 ~ 12)
+     * @return 일수 (28 ~ 31)
+     */
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            boolean leapYear = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leapYear ? 29 : 28;
+        case 4, 6, 9, 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * 연, 월, 일을 epoch day(1970-01-01 기준 일수)로 변환합니다.
+     *
+     * @param year  연도
+     * @param month 월 (1 ~ 12)
+     * @param day   일 (1 ~ 31)
+     * @return epoch day
+     */
+    public static int toEpochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * epoch day를 yyyyMMdd 형식의 정수(예: 20240102)로 변환합니다.
+     *
+     * @param epochDay epoch day
+     * @return yyyyMMdd 형식의 정수
+     */
+    public static int toDateInt(int epochDay) {
+        int z = epochDay + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * epoch day를 yyyyMMdd 형식의 날짜 문자열로 변환합니다. 1000년 이전의 연도는 앞을 0으로 채웁니다. (예: 00050101)
+     *
+     * @param epochDay epoch day
+     * @return yyyyMMdd 형식의 날짜 문자열
+     */
+    public static String formatEpochDay(int epochDay) {
+        int date = toDateInt(epochDay);
+        if (date < 0 || date > 99991231) {
+            return Integer.toString(date);
+        }
+
+        char[] chars = new char[8];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + date % 10);
+            date /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * epoch day의 요일을 반환합니다.
+     *
+     * @param epochDay epoch day
+     * @return 요일 (0: 월요일 ~ 6: 일요일)
+     */
+    public static int dayOfWeek(int epochDay) {
+        // 1970-01-01은 목요일(3)
+        return Math.floorMod(epochDay + 3, 7);
+    }
+
+    /**
+     * 두 날짜 사이(양 끝 포함)의 영업일 수를 계산합니다.
+     *
+     * @param startDate 시작 날짜 (yyyyMMdd 형식)
+     * @param endDate   종료 날짜 (yyyyMMdd 형식)
+     * @param calendar  영업일 달력
+     * @return 두 날짜 사이의 영업일 수
+     */
+    public static Integer getBusinessDaysDifference(String startDate, String endDate, BusinessCalendar calendar) {
+        return calendar.businessDaysBetween(toEpochDay(startDate), toEpochDay(endDate));
+    }
+
+    /**
+     * 주어진 날짜가 영업일인지 확인합니다.
+     *
+     * @param dateStr  날짜 문자열 (yyyyMMdd 형식)
+     * @param calendar 영업일 달력
+     * @return 영업일이면 {@code true}
+     */
+    public static boolean isBusinessDay(String dateStr, BusinessCalendar calendar) {
+        return calendar.isBusinessDay(toEpochDay(dateStr));
+    }
+
+    /**
+     * 날짜에 영업일 수를 더한 값을 반환합니다.
+     *
+     * <p>
+     * 주어진 날짜가 영업일이 아니면 다음 영업일을 기준으로 계산합니다. (0이면 주어진 날짜 이후의 첫 영업일)
+     * </p>
+     *
+     * @param dateStr      날짜 문자열 (yyyyMMdd 형식)
+     * @param businessDays 더할 영업일 수 (0 이상)
+     * @param calendar     영업일 달력
+     * @return 계산된 영업일 (yyyyMMdd 형식)
+     */
+    public static String plusBusinessDays(String dateStr, Integer businessDays, BusinessCalendar calendar) {
+        return formatEpochDay(calendar.nthBusinessDay(toEpochDay(dateStr), businessDays));
+    }
+
     /**
      * 날짜에 특정 일수, 주, 월, 년을 더한 값을 반환합니다.
      * 이 메서드는 기본 날짜 포맷(DEFAULT_DATE_FORMAT)을 사용하여 동작합니다.
@@ -0,0 +1,130 @@
+package com.func.functional.biz.chart.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.func.functional.biz.chart.model.ChartBatchOut;
+import com.func.functional.biz.chart.model.ChartSeries;
+import com.func.functional.biz.chart.model.ChartSeriesOut;
+
+class ChartBinaryCodecTest {
+
+	@Test
+	void seriesRoundTrip() throws IOException {
+		ChartSeries series = new ChartSeries(0);
+		series.accept(-3, 0);
+		series.accept(19_723, 126);
+		series.accept(19_724, -4_560);
+		series.accept(19_730, Long.MAX_VALUE);
+		series.accept(19_731, Long.MIN_VALUE);
+
+		ChartSeries decoded = ChartBinaryCodec.decodeSeries(ChartBinaryCodec.encode(series));
+
+		assertSeriesEquals(series, decoded);
+	}
+
+	@Test
+	void emptySeriesRoundTrip() throws IOException {
+		ChartSeries decoded = ChartBinaryCodec.decodeSeries(ChartBinaryCodec.encode(new ChartSeries(0)));
+
+		assertEquals(0, decoded.size());
+	}
+
+	@Test
+	void batchRoundTrip() throws IOException {
+		ChartSeries series = new ChartSeries(2);
+		series.accept(19_723, 100);
+		series.accept(19_726, 99);
+
+		ChartBatchOut batch = new ChartBatchOut();
+		batch.setSeries(List.of(seriesOut("product-1", series), seriesOut(null, new ChartSeries(0)), seriesOut("상품-2", series)));
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ChartBinaryCodec.encode(batch, outputStream);
+		ChartBatchOut decoded = ChartBinaryCodec.decodeBatch(new ByteArrayInputStream(outputStream.toByteArray()));
+
+		assertEquals(3, decoded.getSeries().size());
+		assertEquals("product-1", decoded.getSeries().get(0).getId());
+		assertNull(decoded.getSeries().get(1).getId());
+		assertEquals("상품-2", decoded.getSeries().get(2).getId());
+		assertSeriesEquals(series, decoded.getSeries().get(0).getData());
+		assertEquals(0, decoded.getSeries().get(1).getData().size());
+		assertSeriesEquals(series, decoded.getSeries().get(2).getData());
+	}
+
+	@Test
+	void rejectsUnexpectedFrameTypeAndScale() {
+		byte[] series = ChartBinaryCodec.encode(new ChartSeries(0));
+
+		assertThrows(IOException.class, () -> ChartBinaryCodec.decodeBatch(new ByteArrayInputStream(series)));
+		assertThrows(IOException.class, () -> ChartBinaryCodec.decodeSeries(bytes(0x02, 0x00)));
+		assertThrows(IOException.class, () -> ChartBinaryCodec.decodeSeries(bytes(0x01, 0x03, 0x00, 0x00)));
+	}
+
+	@Test
+	void rejectsTruncatedInput() {
+		ChartSeries series = new ChartSeries(1);
+		series.accept(19_723, 126);
+		byte[] bytes = ChartBinaryCodec.encode(series);
+
+		for (int length = 0; length < bytes.length; length++) {
+			byte[] truncated = Arrays.copyOf(bytes, length);
+			assertThrows(EOFException.class, () -> ChartBinaryCodec.decodeSeries(truncated), "length " + length);
+		}
+	}
+
+	@Test
+	void rejectsOversizedOrNegativeCountsBeforeAllocating() {
+		// 차트 수 2^32 - 1 (int로 변환하면 음수)
+		assertThrows(IOException.class, () -> ChartBinaryCodec.decodeBatch(new ByteArrayInputStream(bytes(0x02, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F))));
+		// 차트 수 2^31 - 1
+		assertThrows(IOException.class, () -> ChartBinaryCodec.decodeBatch(new ByteArrayInputStream(bytes(0x02, 0xFF, 0xFF, 0xFF, 0xFF, 0x07))));
+		// 데이터 수 2^31 - 1
+		assertThrows(IOException.class, () -> ChartBinaryCodec.decodeSeries(bytes(0x01, 0x02, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, 0x00)));
+		// 식별자 길이 2^31 - 1
+		assertThrows(IOException.class, () -> ChartBinaryCodec.decodeBatch(new ByteArrayInputStream(bytes(0x02, 0x01, 0xFF, 0xFF, 0xFF, 0xFF, 0x07))));
+		// 11바이트 이상의 varint
+		assertThrows(IOException.class, () -> ChartBinaryCodec.decodeSeries(bytes(0x01, 0x02, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01)));
+	}
+
+	@Test
+	void claimedCountLargerThanBodyFailsWithEof() {
+		// 차트 수 1000, 실제 차트 없음
+		IOException e = assertThrows(IOException.class, () -> ChartBinaryCodec.decodeBatch(new ByteArrayInputStream(bytes(0x02, 0xE8, 0x07))));
+		assertTrue(e instanceof EOFException);
+	}
+
+	private static ChartSeriesOut seriesOut(String id, ChartSeries data) {
+		ChartSeriesOut seriesOut = new ChartSeriesOut();
+		seriesOut.setId(id);
+		seriesOut.setData(data);
+		return seriesOut;
+	}
+
+	private static byte[] bytes(int... values) {
+		byte[] bytes = new byte[values.length];
+		for (int i = 0; i < values.length; i++) {
+			bytes[i] = (byte) values[i];
+		}
+		return bytes;
+	}
+
+	private static void assertSeriesEquals(ChartSeries expected, ChartSeries actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.getEpochDay(i), actual.getEpochDay(i), "epochDay at " + i);
+			assertEquals(expected.getValue(i), actual.getValue(i), "value at " + i);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.func.functional.biz.chart.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.func.functional.biz.chart.model.ChartPointConsumer;
+import com.func.functional.biz.chart.model.ChartSeries;
+
+class ChartDownsamplerTest {
+
+	@Test
+	void keepsLargestTriangleInKnownSeries() {
+		ChartSeries result = downsample(new int[] { 0, 1, 2, 3, 4 }, new long[] { 0, 10, 0, -10, 0 }, 3);
+
+		assertArrayEquals(new int[] { 0, 1, 4 }, epochDays(result));
+		assertArrayEquals(new long[] { 0, 10, 0 }, values(result));
+	}
+
+	@Test
+	void keepsSpikesAndEndpoints() {
+		int size = 100;
+		int[] days = new int[size];
+		long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			days[i] = 19_000 + i;
+		}
+		values[10] = 5_000;
+		values[55] = -7_000;
+		values[90] = 3_000;
+
+		ChartSeries result = downsample(days, values, 10);
+
+		assertEquals(10, result.size());
+		assertEquals(days[0], result.getEpochDay(0));
+		assertEquals(days[size - 1], result.getEpochDay(result.size() - 1));
+		for (int spike : new int[] { 10, 55, 90 }) {
+			boolean found = false;
+			for (int i = 0; i < result.size(); i++) {
+				found |= result.getEpochDay(i) == days[spike] && result.getValue(i) == values[spike];
+			}
+			assertTrue(found, "spike at " + spike);
+		}
+	}
+
+	@Test
+	void matchesReferenceImplementation() {
+		SplittableRandom random = new SplittableRandom(4885);
+
+		for (int size : new int[] { 4, 5, 17, 260, 1_000, 7_829 }) {
+			int[] days = new int[size];
+			long[] values = new long[size];
+			for (int i = 0, day = 19_000; i < size; i++) {
+				day += 1 + random.nextInt(3);
+				days[i] = day;
+				values[i] = (i == 0 ? 0 : values[i - 1]) + random.nextLong(-500, 501);
+			}
+
+			for (int maxPoints : new int[] { 3, 4, 7, 100, 600, size - 1 }) {
+				if (maxPoints >= size || maxPoints < ChartDownsampler.MIN_POINTS) {
+					continue;
+				}
+				ChartSeries expected = referenceLttb(days, values, maxPoints);
+				ChartSeries actual = downsample(days, values, maxPoints);
+
+				assertArrayEquals(epochDays(expected), epochDays(actual), "size=" + size + ", maxPoints=" + maxPoints);
+				assertArrayEquals(values(expected), values(actual), "size=" + size + ", maxPoints=" + maxPoints);
+			}
+		}
+	}
+
+	@Test
+	void passesThroughWhenMaxPointsIsNotSmallerThanSize() {
+		ChartSeries sink = new ChartSeries(5);
+
+		assertSame(sink, ChartDownsampler.downsample(sink, 5, 5));
+		assertSame(sink, ChartDownsampler.downsample(sink, 5, 600));
+		assertSame(sink, ChartDownsampler.downsample(sink, 5, null));
+		assertSame(sink, ChartDownsampler.downsample(sink, 2, 1));
+		assertEquals(5, ChartDownsampler.outputSize(5, 600));
+		assertEquals(5, ChartDownsampler.outputSize(5, null));
+	}
+
+	@Test
+	void raisesMaxPointsBelowMinimum() {
+		ChartSeries result = downsample(new int[] { 0, 1, 2, 3, 4, 5 }, new long[] { 0, 1, 2, 3, 4, 5 }, 1);
+
+		assertEquals(ChartDownsampler.MIN_POINTS, ChartDownsampler.outputSize(6, 1));
+		assertEquals(ChartDownsampler.MIN_POINTS, result.size());
+		assertEquals(0, result.getEpochDay(0));
+		assertEquals(5, result.getEpochDay(2));
+	}
+
+	private static ChartSeries downsample(int[] days, long[] values, int maxPoints) {
+		ChartSeries result = new ChartSeries(ChartDownsampler.outputSize(days.length, maxPoints));
+		ChartPointConsumer consumer = ChartDownsampler.downsample(result, days.length, maxPoints);
+		for (int i = 0; i < days.length; i++) {
+			consumer.accept(days[i], values[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * 전체 데이터를 배열로 보관하는 LTTB 구현 (비교 기준)
+	 */
+	private static ChartSeries referenceLttb(int[] days, long[] values, int threshold) {
+		int size = days.length;
+		int bucketCount = threshold - 2;
+		ChartSeries result = new ChartSeries(threshold);
+
+		int selected = 0;
+		result.accept(days[0], values[0]);
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			int start = (int) ((long) bucket * (size - 2) / bucketCount) + 1;
+			int end = (int) ((long) (bucket + 1) * (size - 2) / bucketCount) + 1;
+			int nextEnd = bucket + 1 < bucketCount ? (int) ((long) (bucket + 2) * (size - 2) / bucketCount) + 1 : size;
+
+			double averageDay = 0;
+			double averageValue = 0;
+			for (int i = end; i < nextEnd; i++) {
+				averageDay += days[i];
+				averageValue += values[i];
+			}
+			averageDay /= nextEnd - end;
+			averageValue /= nextEnd - end;
+
+			int best = start;
+			double maxArea = -1;
+			for (int i = start; i < end; i++) {
+				double area = Math.abs((days[selected] - averageDay) * (values[i] - values[selected]) - (days[selected] - days[i]) * (averageValue - values[selected]));
+				if (area > maxArea) {
+					maxArea = area;
+					best = i;
+				}
+			}
+			result.accept(days[best], values[best]);
+			selected = best;
+		}
+		result.accept(days[size - 1], values[size - 1]);
+		return result;
+	}
+
+	private static int[] epochDays(ChartSeries series) {
+		int[] epochDays = new int[series.size()];
+		for (int i = 0; i < epochDays.length; i++) {
+			epochDays[i] = series.getEpochDay(i);
+		}
+		return epochDays;
+	}
+
+	private static long[] values(ChartSeries series) {
+		long[] values = new long[series.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = series.getValue(i);
+		}
+		return values;
+	}
+}
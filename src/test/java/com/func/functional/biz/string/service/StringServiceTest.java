@@ -0,0 +1,143 @@
+package com.func.functional.biz.string.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class StringServiceTest {
+
+	/** 첫 묶음이 출력된 후 오류가 발생하도록 하는 건수 (한 묶음보다 많음) */
+	private static final int LARGE = 3_000;
+
+	private final StringService stringService = new StringService();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void masksJsonArray() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = stringService.maskSensitiveData(in("[\"hello\", \"ab\", null, \"x\"]"), out);
+
+		assertEquals(4, count);
+		assertEquals("[\"h***o\",\"a*\",null,\"x\"]", out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void masksNdjson() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long count = stringService.maskSensitiveData(in("\"hello\"\n\"ab\"\nnull\n\"홍길동\"\n"), out);
+
+		assertEquals(4, count);
+		assertEquals("\"h***o\"\n\"a*\"\nnull\n\"홍*동\"\n", out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void masksMoreThanOneBatchInOrder() throws IOException {
+		StringBuilder json = new StringBuilder("[");
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < LARGE; i++) {
+			json.append(i == 0 ? "" : ",").append("\"value-").append(i).append('"');
+			ndjson.append("\"value-").append(i).append("\"\n");
+		}
+		json.append(']');
+
+		ByteArrayOutputStream jsonOut = new ByteArrayOutputStream();
+		assertEquals(LARGE, stringService.maskSensitiveData(in(json.toString()), jsonOut));
+		JsonNode values = objectMapper.readTree(jsonOut.toByteArray());
+		assertEquals(LARGE, values.size());
+		assertEquals("v********9", values.get(LARGE - 1).asText());
+
+		ByteArrayOutputStream ndjsonOut = new ByteArrayOutputStream();
+		assertEquals(LARGE, stringService.maskSensitiveData(in(ndjson.toString()), ndjsonOut));
+		String[] lines = ndjsonOut.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(LARGE, lines.length);
+		assertEquals("\"v*****0\"", lines[0]);
+	}
+
+	@Test
+	void emptyInput() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(0, stringService.maskSensitiveData(in("[]"), out));
+		assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+
+		out = new ByteArrayOutputStream();
+		assertEquals(0, stringService.maskSensitiveData(in(""), out));
+		assertEquals("", out.toString(StandardCharsets.UTF_8));
+
+		out = new ByteArrayOutputStream();
+		assertEquals(0, stringService.maskSensitiveData(in("\n\n"), out));
+		assertEquals("", out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void invalidInputBeforeFirstBatchWritesNothing() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThrows(IllegalArgumentException.class, () -> stringService.maskSensitiveData(in("[\"a\", 1]"), out));
+		assertEquals(0, out.size());
+
+		ByteArrayOutputStream ndjsonOut = new ByteArrayOutputStream();
+		assertThrows(IllegalArgumentException.class, () -> stringService.maskSensitiveData(in("\"a\"\n{\"b\": 1}\n"), ndjsonOut));
+		assertEquals(0, ndjsonOut.size());
+
+		ByteArrayOutputStream malformedOut = new ByteArrayOutputStream();
+		assertThrows(JsonProcessingException.class, () -> stringService.maskSensitiveData(in("[\"a\", \"b"), malformedOut));
+		assertEquals(0, malformedOut.size());
+	}
+
+	@Test
+	void invalidJsonArrayAfterFirstBatchIsLeftOpen() {
+		for (String tail : new String[] { ", 1]", ", \"unterminated" }) {
+			StringBuilder json = new StringBuilder("[");
+			for (int i = 0; i < LARGE; i++) {
+				json.append(i == 0 ? "" : ",").append("\"value\"");
+			}
+			json.append(tail);
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			assertThrows(Exception.class, () -> stringService.maskSensitiveData(in(json.toString()), out));
+
+			// 이미 출력된 결과는 닫히지 않은 배열이므로 클라이언트가 정상 응답으로 읽을 수 없음
+			String output = out.toString(StandardCharsets.UTF_8);
+			assertTrue(output.startsWith("[\"v***e\""), tail);
+			assertFalse(output.endsWith("]"), tail);
+			assertThrows(IOException.class, () -> objectMapper.readTree(output));
+		}
+	}
+
+	@Test
+	void invalidNdjsonAfterFirstBatchEndsWithErrorLine() throws IOException {
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < LARGE; i++) {
+			ndjson.append("\"value\"\n");
+		}
+		ndjson.append("123\n");
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThrows(IllegalArgumentException.class, () -> stringService.maskSensitiveData(in(ndjson.toString()), out));
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertTrue(lines.length > 1 && lines.length <= LARGE);
+		assertEquals("\"v***e\"", lines[0]);
+		JsonNode error = objectMapper.readTree(lines[lines.length - 1]);
+		assertTrue(error.has("error"));
+		assertFalse(error.get("error").asText().isEmpty());
+	}
+
+	private static ByteArrayInputStream in(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,162 @@
+package com.func.functional.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BodyLogRingBufferTest {
+
+	@Test
+	void roundsCapacityUpToPowerOfTwo() {
+		assertEquals(2, fill(new BodyLogRingBuffer<>(0)));
+		assertEquals(2, fill(new BodyLogRingBuffer<>(2)));
+		assertEquals(4, fill(new BodyLogRingBuffer<>(3)));
+		assertEquals(8, fill(new BodyLogRingBuffer<>(8)));
+		assertEquals(16, fill(new BodyLogRingBuffer<>(9)));
+	}
+
+	@Test
+	void keepsOrderAcrossWrapAround() {
+		BodyLogRingBuffer<Integer> buffer = new BodyLogRingBuffer<>(4);
+		int next = 0;
+		int expected = 0;
+
+		// 슬롯 위치가 여러 번 순환하도록 넣고 꺼내는 수를 바꿔가며 반복
+		for (int round = 0; round < 50; round++) {
+			int offers = 1 + round % 4;
+			for (int i = 0; i < offers && buffer.size() < 4; i++) {
+				assertTrue(buffer.offer(next++));
+			}
+			int polls = 1 + (round * 3) % 4;
+			for (int i = 0; i < polls && buffer.size() > 0; i++) {
+				assertEquals(expected++, buffer.poll());
+			}
+		}
+		while (buffer.size() > 0) {
+			assertEquals(expected++, buffer.poll());
+		}
+		assertEquals(next, expected);
+		assertNull(buffer.poll());
+	}
+
+	@Test
+	void rejectsWhenFullAndAcceptsAfterPoll() {
+		BodyLogRingBuffer<String> buffer = new BodyLogRingBuffer<>(2);
+
+		assertTrue(buffer.offer("a"));
+		assertTrue(buffer.offer("b"));
+		assertFalse(buffer.offer("c"));
+		assertEquals(2, buffer.size());
+
+		assertEquals("a", buffer.poll());
+		assertTrue(buffer.offer("d"));
+		assertFalse(buffer.offer("e"));
+
+		assertEquals("b", buffer.poll());
+		assertEquals("d", buffer.poll());
+		assertNull(buffer.poll());
+		assertEquals(0, buffer.size());
+	}
+
+	@Test
+	void countsDropsFromConcurrentProducers() throws InterruptedException {
+		int capacity = 64;
+		int producers = 8;
+		int perProducer = 1_000;
+		BodyLogRingBuffer<Integer> buffer = new BodyLogRingBuffer<>(capacity);
+		AtomicInteger dropped = new AtomicInteger();
+
+		// 소비자 없이 넣으면 정확히 버퍼 크기만큼만 들어감
+		runProducers(producers, perProducer, buffer, dropped);
+
+		assertEquals(capacity, buffer.size());
+		assertEquals(producers * perProducer - capacity, dropped.get());
+
+		BitSet seen = new BitSet();
+		for (int i = 0; i < capacity; i++) {
+			Integer item = buffer.poll();
+			assertFalse(seen.get(item), "duplicate " + item);
+			seen.set(item);
+		}
+		assertNull(buffer.poll());
+	}
+
+	@Test
+	void deliversEveryAcceptedItemOnceWithConcurrentConsumer() throws InterruptedException {
+		int producers = 4;
+		int perProducer = 20_000;
+		BodyLogRingBuffer<Integer> buffer = new BodyLogRingBuffer<>(16);
+		AtomicInteger dropped = new AtomicInteger();
+		List<Integer> consumed = new ArrayList<>();
+		CountDownLatch done = new CountDownLatch(1);
+
+		Thread consumer = new Thread(() -> {
+			while (true) {
+				Integer item = buffer.poll();
+				if (item != null) {
+					consumed.add(item);
+				} else if (done.getCount() == 0 && buffer.size() == 0) {
+					return;
+				} else {
+					Thread.onSpinWait();
+				}
+			}
+		});
+		consumer.start();
+		runProducers(producers, perProducer, buffer, dropped);
+		done.countDown();
+		consumer.join();
+
+		BitSet seen = new BitSet();
+		for (Integer item : consumed) {
+			assertFalse(seen.get(item), "duplicate " + item);
+			seen.set(item);
+		}
+		assertEquals(producers * perProducer, consumed.size() + dropped.get());
+	}
+
+	private static int fill(BodyLogRingBuffer<Object> buffer) {
+		int count = 0;
+		while (buffer.offer(count)) {
+			count++;
+		}
+		return count;
+	}
+
+	private static void runProducers(int producers, int perProducer, BodyLogRingBuffer<Integer> buffer, AtomicInteger dropped)
+			throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			int offset = p * perProducer;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < perProducer; i++) {
+					if (!buffer.offer(offset + i)) {
+						dropped.incrementAndGet();
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.func.functional.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BusinessCalendarTest {
+
+	/** 2023년 ~ 2025년의 공휴일 (연말연시와 word 경계 주변 포함) */
+	private static final int[] HOLIDAYS = {
+			epochDay(2023, 1, 2), epochDay(2023, 3, 6), epochDay(2023, 3, 7), epochDay(2023, 12, 25), epochDay(2023, 12, 29),
+			epochDay(2024, 1, 1), epochDay(2024, 2, 9), epochDay(2024, 2, 29), epochDay(2024, 12, 31),
+			epochDay(2025, 1, 1), epochDay(2025, 3, 3), epochDay(2025, 12, 31) };
+
+	private static final Set<Integer> HOLIDAY_SET = IntStream.of(HOLIDAYS).boxed().collect(Collectors.toSet());
+
+	/** 비교 구간 (달력 범위 이전과 이후의 평일 구간 포함) */
+	private static final int FROM = epochDay(2022, 11, 20);
+	private static final int TO = epochDay(2026, 2, 10);
+
+	@Test
+	void businessDaysBetweenMatchesDayByDayCount() {
+		BusinessCalendar calendar = new BusinessCalendar(2023, 2025, HOLIDAYS);
+
+		// 연도 경계
+		assertEquals(expectedBetween(epochDay(2023, 12, 22), epochDay(2024, 1, 5)), calendar.businessDaysBetween(epochDay(2023, 12, 22), epochDay(2024, 1, 5)));
+		assertEquals(8, calendar.businessDaysBetween(epochDay(2023, 12, 22), epochDay(2024, 1, 5)));
+
+		// word 경계 (비트셋 시작일로부터 63, 64, 65일)
+		int base = epochDay(2023, 1, 1);
+		for (int from = base + 60; from <= base + 66; from++) {
+			for (int to = from; to <= base + 130; to++) {
+				assertEquals(expectedBetween(from, to), calendar.businessDaysBetween(from, to), () -> "range starting at word boundary");
+			}
+		}
+
+		// 달력 범위 밖을 포함한 전체 구간
+		for (int from = FROM; from <= TO; from += 17) {
+			for (int to = from - 3; to <= TO; to += 29) {
+				assertEquals(expectedBetween(from, to), calendar.businessDaysBetween(from, to));
+			}
+		}
+	}
+
+	@Test
+	void nthBusinessDayMatchesDayByDaySelection() {
+		BusinessCalendar calendar = new BusinessCalendar(2023, 2025, HOLIDAYS);
+
+		for (int from : new int[] { FROM, epochDay(2023, 1, 1), epochDay(2023, 3, 5), epochDay(2023, 12, 29), epochDay(2025, 12, 31) }) {
+			int expected = from - 1;
+			for (int n = 0; n < 300; n++) {
+				expected = nextExpected(expected + 1);
+				assertEquals(expected, calendar.nthBusinessDay(from, n), "n=" + n + " from " + from);
+			}
+		}
+		assertThrows(IllegalArgumentException.class, () -> calendar.nthBusinessDay(FROM, -1));
+	}
+
+	@Test
+	void nextBusinessDayAndBusinessDaysSkipWeekendsAndHolidays() {
+		BusinessCalendar calendar = new BusinessCalendar(2023, 2025, HOLIDAYS);
+
+		for (int day = FROM; day <= TO; day++) {
+			assertEquals(expectedBusinessDay(day), calendar.isBusinessDay(day));
+			assertEquals(nextExpected(day), calendar.nextBusinessDay(day));
+		}
+
+		int[] businessDays = calendar.businessDays(epochDay(2023, 12, 20), epochDay(2024, 1, 10));
+		int[] expected = IntStream.rangeClosed(epochDay(2023, 12, 20), epochDay(2024, 1, 10)).filter(BusinessCalendarTest::expectedBusinessDay).toArray();
+		assertEquals(IntStream.of(expected).boxed().toList(), IntStream.of(businessDays).boxed().toList());
+	}
+
+	@Test
+	void composedCalendarMatchesCalendarBuiltAtOnce() {
+		BusinessCalendar whole = new BusinessCalendar(2023, 2025, HOLIDAYS);
+		BusinessCalendar composed = BusinessCalendar.compose(List.of(new BusinessCalendar(2023, 2023, HOLIDAYS), new BusinessCalendar(2024, 2024, HOLIDAYS),
+				new BusinessCalendar(2025, 2025, HOLIDAYS)));
+
+		assertEquals(2023, composed.getFirstYear());
+		assertEquals(2025, composed.getLastYear());
+		for (int day = FROM; day <= TO; day++) {
+			assertEquals(whole.isBusinessDay(day), composed.isBusinessDay(day));
+			assertEquals(whole.businessDaysBetween(FROM, day), composed.businessDaysBetween(FROM, day));
+			assertEquals(whole.nthBusinessDay(FROM, day - FROM), composed.nthBusinessDay(FROM, day - FROM));
+		}
+	}
+
+	@Test
+	void composeReturnsSingleCalendarAndRejectsGaps() {
+		BusinessCalendar calendar = new BusinessCalendar(2024, 2024, HOLIDAYS);
+		assertSame(calendar, BusinessCalendar.compose(List.of(calendar)));
+
+		assertThrows(IllegalArgumentException.class, () -> BusinessCalendar.compose(List.of()));
+		assertThrows(IllegalArgumentException.class,
+				() -> BusinessCalendar.compose(List.of(new BusinessCalendar(2023, 2023, HOLIDAYS), new BusinessCalendar(2025, 2025, HOLIDAYS))));
+		assertThrows(IllegalArgumentException.class, () -> new BusinessCalendar(2025, 2024, HOLIDAYS));
+	}
+
+	private static int epochDay(int year, int month, int day) {
+		return (int) LocalDate.of(year, month, day).toEpochDay();
+	}
+
+	private static boolean expectedBusinessDay(int epochDay) {
+		DayOfWeek dayOfWeek = LocalDate.ofEpochDay(epochDay).getDayOfWeek();
+		return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !HOLIDAY_SET.contains(epochDay);
+	}
+
+	private static int expectedBetween(int from, int to) {
+		return (int) IntStream.rangeClosed(from, to).filter(BusinessCalendarTest::expectedBusinessDay).count();
+	}
+
+	private static int nextExpected(int from) {
+		int day = from;
+		while (!expectedBusinessDay(day)) {
+			day++;
+		}
+		return day;
+	}
+}
@@ -0,0 +1,38 @@
+package com.func.functional.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+class DateUtilsTest {
+
+	@Test
+	void formatEpochDayPadsToEightDigits() {
+		assertEquals("00050101", DateUtils.formatEpochDay(DateUtils.toEpochDay("00050101")));
+		assertEquals("09991231", DateUtils.formatEpochDay(DateUtils.toEpochDay("09991231")));
+		assertEquals("00010101", DateUtils.formatEpochDay(DateUtils.toEpochDay("00010101")));
+		assertEquals("20240229", DateUtils.formatEpochDay(DateUtils.toEpochDay("20240229")));
+		assertEquals("99991231", DateUtils.formatEpochDay(DateUtils.toEpochDay("99991231")));
+	}
+
+	@Test
+	void toEpochDayMatchesLocalDate() {
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuuMMdd");
+		for (LocalDate date = LocalDate.of(1899, 12, 1); date.isBefore(LocalDate.of(2101, 2, 1)); date = date.plusDays(13)) {
+			String text = date.format(formatter);
+			assertEquals(date.toEpochDay(), DateUtils.toEpochDay(text), text);
+			assertEquals(text, DateUtils.formatEpochDay((int) date.toEpochDay()));
+		}
+	}
+
+	@Test
+	void toEpochDayRejectsNonexistentDates() {
+		for (String text : new String[] { "20230229", "20240431", "20241301", "20240001", "20240100", "00000101", "2024011", "2024-01-01" }) {
+			assertThrows(IllegalArgumentException.class, () -> DateUtils.toEpochDay(text), text);
+		}
+	}
+}